@@ -20,6 +20,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -27,7 +28,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedFileInputStream;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -61,14 +65,15 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model,
+                new UndoRedoStack(config.getUndoHistoryMaxDepth(), config.getUndoHistoryMaxBytes()));
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -80,6 +85,30 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} of the type specified in {@code config} for the file at {@code filePath}.
+     * An {@code XmlAddressBookStorage} will be used if the type is not recognised.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, String filePath) {
+        String storageType = config.getAddressBookStorageType();
+        boolean isMemoryMapped = config.isAddressBookFileMemoryMapped();
+        if (isMemoryMapped && !MappedFileInputStream.isSupported()) {
+            logger.warning("Memory-mapped data files are not supported on this operating system, as the data file "
+                    + "could not be saved while it is mapped. Reading it through a buffered stream instead.");
+            isMemoryMapped = false;
+        }
+        if (Config.ADDRESS_BOOK_STORAGE_TYPE_JOURNAL.equals(storageType)) {
+            return new JournalAddressBookStorage(filePath);
+        }
+        if (Config.ADDRESS_BOOK_STORAGE_TYPE_BINARY.equals(storageType)) {
+            return new BinaryAddressBookStorage(filePath, isMemoryMapped);
+        }
+        if (!Config.ADDRESS_BOOK_STORAGE_TYPE_XML.equals(storageType)) {
+            logger.warning("Unknown address book storage type " + storageType + ". Using xml storage instead.");
+        }
+        return new XmlAddressBookStorage(filePath, isMemoryMapped);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -102,7 +131,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, config.getParallelFilterThreshold());
     }
 
     private void initLogging(Config config) {
@@ -191,6 +220,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -203,7 +233,8 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        this.stop();
+        // exit commands are run on the command thread, but the window can only be closed on the JavaFX thread
+        Platform.runLater(this::stop);
     }
 
     public static void main(String[] args) {
@@ -9,11 +9,19 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final String ADDRESS_BOOK_STORAGE_TYPE_XML = "xml";
+    public static final String ADDRESS_BOOK_STORAGE_TYPE_JOURNAL = "journal";
+    public static final String ADDRESS_BOOK_STORAGE_TYPE_BINARY = "binary";
 
     // Config values customizable through config file
     private String appTitle = "AB&B";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private int undoHistoryMaxDepth = 100;
+    private long undoHistoryMaxBytes = 64L * 1024 * 1024;
+    private String addressBookStorageType = ADDRESS_BOOK_STORAGE_TYPE_XML;
+    private boolean addressBookFileMemoryMapped = false;
+    private int parallelFilterThreshold = 10000;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +47,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoHistoryMaxDepth() {
+        return undoHistoryMaxDepth;
+    }
+
+    public void setUndoHistoryMaxDepth(int undoHistoryMaxDepth) {
+        this.undoHistoryMaxDepth = undoHistoryMaxDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    public String getAddressBookStorageType() {
+        return addressBookStorageType;
+    }
+
+    public void setAddressBookStorageType(String addressBookStorageType) {
+        this.addressBookStorageType = addressBookStorageType;
+    }
+
+    public boolean isAddressBookFileMemoryMapped() {
+        return addressBookFileMemoryMapped;
+    }
+
+    public void setAddressBookFileMemoryMapped(boolean addressBookFileMemoryMapped) {
+        this.addressBookFileMemoryMapped = addressBookFileMemoryMapped;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +100,18 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoHistoryMaxDepth == o.undoHistoryMaxDepth
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes
+                && Objects.equals(addressBookStorageType, o.addressBookStorageType)
+                && addressBookFileMemoryMapped == o.addressBookFileMemoryMapped
+                && parallelFilterThreshold == o.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoHistoryMaxDepth, undoHistoryMaxBytes,
+                addressBookStorageType, addressBookFileMemoryMapped, parallelFilterThreshold);
     }
 
     @Override
@@ -66,6 +120,11 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo history max depth : " + undoHistoryMaxDepth);
+        sb.append("\nUndo history max bytes : " + undoHistoryMaxBytes);
+        sb.append("\nAddress book storage type : " + addressBookStorageType);
+        sb.append("\nAddress book file memory-mapped : " + addressBookFileMemoryMapped);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
         return sb.toString();
     }
 
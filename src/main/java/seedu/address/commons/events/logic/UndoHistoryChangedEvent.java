@@ -0,0 +1,20 @@
+package seedu.address.commons.events.logic;
+
+import seedu.address.commons.events.BaseEvent;
+
+/** Indicates the commands that can be undone, or the memory they retain, have changed */
+public class UndoHistoryChangedEvent extends BaseEvent {
+
+    public final int undoSize;
+    public final long retainedBytes;
+
+    public UndoHistoryChangedEvent(int undoSize, long retainedBytes) {
+        this.undoSize = undoSize;
+        this.retainedBytes = retainedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "undoable commands " + undoSize + ", retained bytes " + retainedBytes;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.CancellationException;
+
 import javafx.scene.image.Image;
 import seedu.address.MainApp;
 
@@ -36,4 +38,16 @@ public class AppUtil {
             throw new IllegalArgumentException(errorMessage);
         }
     }
+
+    /**
+     * Checks that the current thread has not been interrupted. Called periodically by long-running operations so
+     * that they can be cancelled by interrupting the thread running them.
+     *
+     * @throws CancellationException if the current thread has been interrupted. The interrupt status is kept.
+     */
+    public static void checkNotInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+    }
 }
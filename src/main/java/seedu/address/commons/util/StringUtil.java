@@ -5,6 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -28,19 +31,99 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWordSeparator(preppedWord, 0) == -1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
-
-        for (String wordInSentence: wordsInPreppedSentence) {
-            if (wordInSentence.equalsIgnoreCase(preppedWord)) {
+        int wordStart = 0;
+        while (wordStart < sentence.length()) {
+            int wordEnd = indexOfWordSeparator(sentence, wordStart);
+            if (wordEnd == -1) {
+                wordEnd = sentence.length();
+            }
+            if (wordEnd - wordStart == preppedWord.length()
+                    && sentence.regionMatches(true, wordStart, preppedWord, 0, preppedWord.length())) {
                 return true;
             }
+            wordStart = wordEnd + 1;
         }
         return false;
     }
 
+    /**
+     * Returns the words of {@code sentence}, which are separated by whitespace, in lower case.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords("ABc  def") == {"abc", "def"}
+     *       toLowerCaseWords("  ") == {}
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        final List<String> words = new ArrayList<>();
+        int wordStart = 0;
+        while (wordStart < sentence.length()) {
+            int wordEnd = indexOfWordSeparator(sentence, wordStart);
+            if (wordEnd == -1) {
+                wordEnd = sentence.length();
+            }
+            if (wordEnd > wordStart) {
+                words.add(sentence.substring(wordStart, wordEnd).toLowerCase(Locale.ROOT));
+            }
+            wordStart = wordEnd + 1;
+        }
+        return words.toArray(new String[words.size()]);
+    }
+
+    /**
+     * Returns the position of the first whitespace character of {@code string} at or after {@code fromIndex},
+     * or -1 if there is none. Whitespace is as matched by {@code \s} in a regular expression.
+     */
+    private static int indexOfWordSeparator(String string, int fromIndex) {
+        for (int i = fromIndex; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of
+     * single-character insertions, deletions and substitutions needed to change one into the other.
+     *   Case sensitive.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alice") == 0
+     *       getEditDistance("alice", "alcie") == 2
+     *       getEditDistance("alice", "alicia") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -12,9 +15,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} inspects the bound classes by reflection, so contexts are created once per class
+ * and reused. {@code Marshaller} and {@code Unmarshaller} instances are not thread-safe, so they are pooled and
+ * each is only used by one thread at a time.
  */
 public class XmlUtil {
 
+    private static final ConcurrentHashMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,10 +47,17 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(classToConvert, c -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file));
+        try {
+            return ((T) um.unmarshal(file));
+        } finally {
+            pool.offer(um);
+        }
     }
 
     /**
@@ -60,11 +78,31 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Queue<Marshaller> pool = marshallers.computeIfAbsent(data.getClass(), c -> new ConcurrentLinkedQueue<>());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+
+        try {
+            m.marshal(data, file);
+        } finally {
+            pool.offer(m);
+        }
+    }
 
-        m.marshal(data, file);
+    /**
+     * Returns the {@code JAXBContext} for {@code boundClass}, creating it if it has not been created before.
+     */
+    static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            // creating a context twice in a race is harmless; only one of them is kept
+            contexts.putIfAbsent(boundClass, JAXBContext.newInstance(boundClass));
+            context = contexts.get(boundClass);
+        }
+        return context;
     }
 
 }
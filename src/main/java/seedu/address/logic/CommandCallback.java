@@ -0,0 +1,26 @@
+package seedu.address.logic;
+
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Receives the outcome of a command executed by {@link Logic#executeInBackground(String, CommandCallback)}.
+ * Exactly one of the methods is called for each command.
+ */
+public interface CommandCallback {
+
+    /**
+     * Called with the result of a command which completed successfully.
+     */
+    void onSuccess(CommandResult result);
+
+    /**
+     * Called with what was thrown by a command which failed, usually a {@code CommandException} or a
+     * {@code ParseException}, but possibly an unexpected exception or error.
+     */
+    void onFailure(Throwable failure);
+
+    /**
+     * Called when a command is cancelled before it completes. A cancelled command leaves the model unchanged.
+     */
+    void onCancelled();
+}
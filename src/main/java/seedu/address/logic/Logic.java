@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.concurrent.Future;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,6 +21,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread, after the commands and searches submitted before it, and reports
+     * the outcome to {@code callback} on the JavaFX application thread.
+     * Cancelling the returned future with interruption stops a long-running find or sort, leaving the model
+     * unchanged; other commands run to completion once they have started.
+     * @param commandText The command as entered by the user.
+     * @return a future which can be used to cancel the command.
+     */
+    Future<?> executeInBackground(String commandText, CommandCallback callback);
+
+    /**
+     * Narrows the filtered list of persons to the persons with a name word starting with each of the words of
+     * {@code keywords}, for searching as the user types. Shows all persons if {@code keywords} is blank.
+     * Only the words before the first field prefix of a {@code find} query are used.
+     */
+    void searchNamesAsYouType(String keywords);
+
+    /**
+     * Does a {@link #searchNamesAsYouType(String)} on the command thread, after the commands submitted before it.
+     * Skips the previous search submitted this way if it has not started yet, as this search supersedes it.
+     */
+    void searchNamesAsYouTypeInBackground(String keywords);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
@@ -1,20 +1,47 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.UndoHistoryChangedEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands and searches submitted to be run in the background are run one at a time on a single command thread, so
+ * that the model is only changed by one of them at a time and the JavaFX application thread is never blocked by
+ * them. Their outcomes are posted back through the callback executor, which is the JavaFX application thread by
+ * default.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -23,12 +50,35 @@ public class LogicManager extends ComponentManager implements Logic {
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
+    private final ExecutorService commandExecutor;
+    private final Executor callbackExecutor;
+    // the last search submitted by searchNamesAsYouTypeInBackground(String), or null if there is none yet
+    private Future<?> pendingSearch;
 
     public LogicManager(Model model) {
+        this(model, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, UndoRedoStack undoRedoStack) {
+        this(model, undoRedoStack, Platform::runLater);
+    }
+
+    /**
+     * Constructs a LogicManager which reports the outcomes of the commands run in the background through
+     * {@code callbackExecutor}.
+     */
+    public LogicManager(Model model, UndoRedoStack undoRedoStack, Executor callbackExecutor) {
+        requireNonNull(callbackExecutor);
         this.model = model;
         this.history = new CommandHistory();
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = undoRedoStack;
+        this.callbackExecutor = callbackExecutor;
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Command executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -39,12 +89,77 @@ public class LogicManager extends ComponentManager implements Logic {
             command.setData(model, history, undoRedoStack);
             CommandResult result = command.execute();
             undoRedoStack.push(command);
+            raise(new UndoHistoryChangedEvent(undoRedoStack.getUndoSize(), undoRedoStack.getRetainedBytes()));
             return result;
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public Future<?> executeInBackground(String commandText, CommandCallback callback) {
+        requireAllNonNull(commandText, callback);
+        // set by whichever comes first of the command starting and the command being cancelled before it starts,
+        // so that exactly one outcome is reported
+        final AtomicBoolean isOutcomeClaimed = new AtomicBoolean();
+        final FutureTask<Void> task = new FutureTask<Void>(() -> {
+            if (isOutcomeClaimed.compareAndSet(false, true)) {
+                executeAndReport(commandText, callback);
+            }
+        }, null) {
+            @Override
+            protected void done() {
+                if (isCancelled() && isOutcomeClaimed.compareAndSet(false, true)) {
+                    logger.info("Cancelled command before it started: " + commandText);
+                    callbackExecutor.execute(callback::onCancelled);
+                }
+            }
+        };
+        commandExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Executes {@code commandText} on the current thread and reports its outcome to {@code callback} through the
+     * callback executor. Unexpected exceptions and errors are reported as failures too, as the task running the
+     * command would otherwise keep them without anyone being told that the command has ended.
+     */
+    private void executeAndReport(String commandText, CommandCallback callback) {
+        try {
+            CommandResult result = execute(commandText);
+            callbackExecutor.execute(() -> callback.onSuccess(result));
+        } catch (CommandException | ParseException e) {
+            callbackExecutor.execute(() -> callback.onFailure(e));
+        } catch (CancellationException ce) {
+            logger.info("Cancelled command: " + commandText);
+            callbackExecutor.execute(callback::onCancelled);
+        } catch (RuntimeException | Error e) {
+            logger.severe("Unexpected error while executing command: " + StringUtil.getDetails(e));
+            callbackExecutor.execute(() -> callback.onFailure(e));
+        }
+    }
+
+    @Override
+    public void searchNamesAsYouType(String keywords) {
+        String trimmedKeywords = ArgumentTokenizer.tokenize(" " + keywords,
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG).getPreamble();
+        if (trimmedKeywords.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return;
+        }
+        model.updateFilteredPersonListByNamePrefix(
+                new NameStartsWithKeywordsPredicate(Arrays.asList(trimmedKeywords.split("\\s+"))));
+    }
+
+    @Override
+    public synchronized void searchNamesAsYouTypeInBackground(String keywords) {
+        requireNonNull(keywords);
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+        }
+        pendingSearch = commandExecutor.submit(() -> searchNamesAsYouType(keywords));
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
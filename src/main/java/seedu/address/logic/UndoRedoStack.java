@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
 import seedu.address.logic.commands.Command;
@@ -10,12 +12,35 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The undo-stack can be bounded by the number of commands it holds and by the estimated number of bytes retained
+ * by the commands in both stacks. When a push exceeds either bound, the oldest commands are discarded and can no
+ * longer be undone. The command just pushed is always kept within the memory bound, even if it alone exceeds it, as
+ * its retained data has already been taken and the user expects to be able to undo it.
  */
 public class UndoRedoStack {
+    private final int maxDepth;
+    private final long maxRetainedBytes;
+
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
+    /**
+     * Constructs an {@code UndoRedoStack} without any bound on its size.
+     */
     public UndoRedoStack() {
+        this(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an {@code UndoRedoStack} which holds at most {@code maxDepth} commands that can be undone, and
+     * whose commands retain at most {@code maxRetainedBytes} bytes in total.
+     */
+    public UndoRedoStack(int maxDepth, long maxRetainedBytes) {
+        checkArgument(maxDepth >= 0, "Maximum depth cannot be negative");
+        checkArgument(maxRetainedBytes >= 0, "Maximum retained bytes cannot be negative");
+        this.maxDepth = maxDepth;
+        this.maxRetainedBytes = maxRetainedBytes;
         undoStack = new Stack<>();
         redoStack = new Stack<>();
     }
@@ -23,6 +48,7 @@ public class UndoRedoStack {
     /**
      * Pushes {@code command} onto the undo-stack if it is of type {@code UndoableCommand}. Clears the redo-stack
      * if {@code command} is not of type {@code UndoCommand} or {@code RedoCommand}.
+     * Discards the oldest commands in the undo-stack if the stack exceeds its bounds after the push.
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
@@ -34,6 +60,22 @@ public class UndoRedoStack {
         }
 
         undoStack.add((UndoableCommand) command);
+        evictOldestCommands();
+    }
+
+    /**
+     * Removes commands from the bottom of the undo-stack until both the depth and memory bounds are satisfied, or
+     * only the newest command is left for the memory bound.
+     */
+    private void evictOldestCommands() {
+        while (undoStack.size() > maxDepth) {
+            undoStack.remove(0);
+        }
+
+        long retainedBytes = getRetainedBytes();
+        while (retainedBytes > maxRetainedBytes && undoStack.size() > 1) {
+            retainedBytes -= undoStack.remove(0).getRetainedSizeEstimate();
+        }
     }
 
     /**
@@ -68,6 +110,27 @@ public class UndoRedoStack {
         return !redoStack.empty();
     }
 
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    public int getUndoSize() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the commands in both stacks.
+     */
+    public long getRetainedBytes() {
+        long retainedBytes = 0;
+        for (UndoableCommand command : undoStack) {
+            retainedBytes += command.getRetainedSizeEstimate();
+        }
+        for (UndoableCommand command : redoStack) {
+            retainedBytes += command.getRetainedSizeEstimate();
+        }
+        return retainedBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
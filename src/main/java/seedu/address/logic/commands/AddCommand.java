@@ -7,10 +7,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Set;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SizeEstimateUtil;
 
 /**
  * Adds a person to the address book.
@@ -38,6 +43,7 @@ public class AddCommand extends UndoableCommand {
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
 
     private final Person toAdd;
+    private Set<Tag> tagsAdded;
 
     /**
      * Creates an AddCommand to add the specified {@code ReadOnlyPerson}
@@ -50,6 +56,7 @@ public class AddCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         requireNonNull(model);
         try {
+            tagsAdded = getTagsNotInAddressBook(toAdd);
             model.addPerson(toAdd);
             return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
         } catch (DuplicatePersonException e) {
@@ -58,6 +65,26 @@ public class AddCommand extends UndoableCommand {
 
     }
 
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    @Override
+    protected void undoUndoableCommand() {
+        try {
+            model.deletePerson(toAdd);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The added person cannot be missing");
+        }
+        model.deleteTags(tagsAdded);
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        return SizeEstimateUtil.estimateSize(toAdd);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
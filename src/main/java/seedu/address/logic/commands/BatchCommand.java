@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes several commands which change the address book as one transaction: either all of them take effect or
+ * none of them do. The commands are undone and redone together, and their changes are announced, and hence saved,
+ * only once.
+ */
+public class BatchCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMAND_SEPARATOR = ";";
+    public static final String SEPARATOR_ESCAPE = "\\";
+    /** Stands for a {@link #COMMAND_SEPARATOR} within a command, e.g. in an address, rather than between commands. */
+    public static final String ESCAPED_COMMAND_SEPARATOR = SEPARATOR_ESCAPE + COMMAND_SEPARATOR;
+    public static final String SCRIPT_COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes several commands which change the address book as one command. If any of them fails, "
+            + "none of them take effect. The commands are either separated by " + COMMAND_SEPARATOR + " or read "
+            + "from a script file with one command per line, where blank lines and lines starting with "
+            + SCRIPT_COMMENT_MARKER + " are ignored. Within a command separated by " + COMMAND_SEPARATOR + ", write "
+            + ESCAPED_COMMAND_SEPARATOR + " for a " + COMMAND_SEPARATOR + " that is part of the command.\n"
+            + "Parameters: COMMAND" + COMMAND_SEPARATOR + " [COMMAND" + COMMAND_SEPARATOR + "]... or "
+            + PREFIX_FILE + "SCRIPT_FILE\n"
+            + "Example: " + COMMAND_WORD + " add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2"
+            + COMMAND_SEPARATOR + " delete 3\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "contacts.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s)";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d (%2$s) failed, so no changes were made: %3$s";
+
+    private final List<String> commandTexts;
+    private final List<UndoableCommand> commands;
+
+    /**
+     * Creates a BatchCommand to execute {@code commands} in order, where each command was parsed from the text at
+     * the same position of {@code commandTexts}.
+     */
+    public BatchCommand(List<String> commandTexts, List<UndoableCommand> commands) {
+        requireAllNonNull(commandTexts, commands);
+        checkArgument(commandTexts.size() == commands.size(), "Every command must have its text");
+        this.commandTexts = new ArrayList<>(commandTexts);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    public List<UndoableCommand> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                executeOne(i);
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction(getAddressBookSnapshot());
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    /**
+     * Redoes every command as it was redone on its own, rather than executing them again, since the persons they
+     * refer to by index may be listed at other positions by now.
+     */
+    @Override
+    protected void redoUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            for (UndoableCommand command : commands) {
+                command.redoUndoableCommand();
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction(getAddressBookSnapshot());
+            }
+        }
+    }
+
+    /**
+     * Executes the command at {@code index}, without the snapshot that it would take to be undone on its own.
+     *
+     * @throws CommandException naming the command if it fails.
+     */
+    private void executeOne(int index) throws CommandException {
+        try {
+            commands.get(index).executeUndoableCommand();
+        } catch (CommandException ce) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, index + 1, commandTexts.get(index),
+                    ce.getMessage()));
+        }
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
+        super.setData(model, history, undoRedoStack);
+        for (UndoableCommand command : commands) {
+            command.setData(model, history, undoRedoStack);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commandTexts.equals(((BatchCommand) other).commandTexts)); // state check
+    }
+}
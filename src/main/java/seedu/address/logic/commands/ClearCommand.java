@@ -6,6 +6,7 @@ import seedu.address.model.AddressBook;
 
 /**
  * Clears the address book.
+ * Undoing this command restores the snapshot of the address book taken before it was executed.
  */
 public class ClearCommand extends UndoableCommand {
 
@@ -6,7 +6,9 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SizeEstimateUtil;
 
 /**
  * Deletes a person identified using the person's exact name. Case-sensitive.
@@ -25,6 +27,9 @@ public class DeleteByNameCommand extends UndoableCommand {
 
     private final Name nameToBeDeleted;
 
+    private ReadOnlyPerson deletedPerson;
+    private int deletedPersonIndex;
+
     public DeleteByNameCommand(Name nameToBeDeleted) {
         this.nameToBeDeleted = nameToBeDeleted;
     }
@@ -34,9 +39,10 @@ public class DeleteByNameCommand extends UndoableCommand {
         List<ReadOnlyPerson> list = model.getAddressBook().getPersonList();
         ReadOnlyPerson personToDelete = null;
 
-        for (ReadOnlyPerson person: list) {
-            if (person.getName().equals(nameToBeDeleted)) {
-                personToDelete = person;
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).getName().equals(nameToBeDeleted)) {
+                personToDelete = list.get(i);
+                deletedPersonIndex = i;
                 break;
             }
         }
@@ -45,6 +51,8 @@ public class DeleteByNameCommand extends UndoableCommand {
             throw new CommandException(Messages.MESSAGE_PERSON_NOT_IN_ADDRESSBOOK);
         }
 
+        deletedPerson = personToDelete;
+
         try {
             model.deletePerson(personToDelete);
         } catch (PersonNotFoundException pnfe) {
@@ -54,6 +62,34 @@ public class DeleteByNameCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
 
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    @Override
+    protected void undoUndoableCommand() {
+        try {
+            model.addPerson(deletedPersonIndex, deletedPerson);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("The deleted person cannot be in the address book");
+        }
+    }
+
+    @Override
+    protected void redoUndoableCommand() {
+        try {
+            model.deletePerson(deletedPerson);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The restored person cannot be missing");
+        }
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        return deletedPerson == null ? 0 : SizeEstimateUtil.estimateSize(deletedPerson);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
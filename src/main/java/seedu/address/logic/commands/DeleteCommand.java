@@ -6,7 +6,9 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SizeEstimateUtil;
 
 /**
  * Deletes a person identified using it's last displayed index from the address book.
@@ -24,6 +26,9 @@ public class DeleteCommand extends UndoableCommand {
 
     private final Index targetIndex;
 
+    private ReadOnlyPerson deletedPerson;
+    private int deletedPersonIndex;
+
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
     }
@@ -39,6 +44,8 @@ public class DeleteCommand extends UndoableCommand {
         }
 
         ReadOnlyPerson personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        deletedPersonIndex = model.getAddressBook().getPersonList().indexOf(personToDelete);
+        deletedPerson = personToDelete;
 
         try {
             model.deletePerson(personToDelete);
@@ -49,6 +56,34 @@ public class DeleteCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
 
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    @Override
+    protected void undoUndoableCommand() {
+        try {
+            model.addPerson(deletedPersonIndex, deletedPerson);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("The deleted person cannot be in the address book");
+        }
+    }
+
+    @Override
+    protected void redoUndoableCommand() {
+        try {
+            model.deletePerson(deletedPerson);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The restored person cannot be missing");
+        }
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        return deletedPerson == null ? 0 : SizeEstimateUtil.estimateSize(deletedPerson);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
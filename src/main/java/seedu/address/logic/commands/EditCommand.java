@@ -25,6 +25,7 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SizeEstimateUtil;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -53,6 +54,10 @@ public class EditCommand extends UndoableCommand {
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
 
+    private ReadOnlyPerson originalPerson;
+    private Person editedPerson;
+    private Set<Tag> tagsAdded;
+
     /**
      * @param index of the person in the filtered person list to edit
      * @param editPersonDescriptor details to edit the person with
@@ -75,6 +80,7 @@ public class EditCommand extends UndoableCommand {
 
         ReadOnlyPerson personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+        Set<Tag> tagsAdded = getTagsNotInAddressBook(editedPerson);
 
         try {
             model.updatePerson(personToEdit, editedPerson);
@@ -83,10 +89,45 @@ public class EditCommand extends UndoableCommand {
         } catch (PersonNotFoundException pnfe) {
             throw new AssertionError("The target person cannot be missing");
         }
+        this.originalPerson = personToEdit;
+        this.editedPerson = editedPerson;
+        this.tagsAdded = tagsAdded;
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
 
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    @Override
+    protected void undoUndoableCommand() {
+        try {
+            model.updatePerson(editedPerson, originalPerson);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new AssertionError("The edited person must be in the address book in place of the original");
+        }
+        model.deleteTags(tagsAdded);
+    }
+
+    @Override
+    protected void redoUndoableCommand() {
+        try {
+            model.updatePerson(originalPerson, editedPerson);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new AssertionError("The original person must be in the address book in place of the edited");
+        }
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        if (editedPerson == null) {
+            return 0;
+        }
+        return SizeEstimateUtil.estimateSize(originalPerson) + SizeEstimateUtil.estimateSize(editedPerson);
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.storage.PersonExporter;
+import seedu.address.storage.PersonFileFormat;
+
+/**
+ * Writes the persons in the last person listing to a CSV, vCard or JSON file, reporting its progress as it goes.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the persons in the last person listing to a CSV (.csv), vCard (.vcf) or JSON (.json) file, "
+            + "replacing the file if it exists.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d person(s) to %2$s";
+    public static final String MESSAGE_PROGRESS = "Exporting to %3$s: %1$d of %2$d person(s) written";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Cannot write file %1$s";
+
+    private final Path file;
+    private final PersonFileFormat format;
+
+    /**
+     * Creates an ExportCommand to export the listed persons to {@code file} in {@code format}.
+     */
+    public ExportCommand(Path file, PersonFileFormat format) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        // only changed by commands, which run one at a time, so it does not change while it is being written
+        final List<ReadOnlyPerson> persons = model.getFilteredPersonList();
+        final int total = persons.size();
+        try {
+            new PersonExporter().exportPersons(persons, file, format, writtenCount -> EventsCenter.getInstance()
+                    .post(new NewResultAvailableEvent(String.format(MESSAGE_PROGRESS, writtenCount, total, file))));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, file));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, total, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && file.equals(((ExportCommand) other).file)
+                && format == ((ExportCommand) other).format);
+    }
+}
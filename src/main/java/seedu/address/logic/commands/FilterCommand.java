@@ -3,16 +3,17 @@ package seedu.address.logic.commands;
 import seedu.address.model.person.PersonHasTagPredicate;
 
 /**
- * Filters and lists all persons in address book whose tag list contains the argument tag keyword.
+ * Filters and lists all persons in address book whose tag list contains the argument tag keywords.
  * Keyword matching is case insensitive.
  */
 public class FilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tag lists contain "
-            + "the specified tag(case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: TAG\n"
-            + "Example: " + COMMAND_WORD + " friends";
+            + "any of the specified tags(case-insensitive) and displays them as a list with index numbers. "
+            + "Tags joined by & must all be present.\n"
+            + "Parameters: TAG [[&] MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " friends & colleagues family";
 
     private final PersonHasTagPredicate predicate;
 
@@ -22,7 +23,7 @@ public class FilterCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByTag(predicate);
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -1,9 +1,20 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or who match a
+ * query on several of their fields.
  * Keyword matching is case sensitive.
  */
 public class FindCommand extends Command {
@@ -11,19 +22,31 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
-
-    private final NameContainsKeywordsPredicate predicate;
+            + "the specified keywords (case-sensitive) and displays them as a list with index numbers. "
+            + "Keywords ending with ~ also match words within a few edits, e.g. alcie~ or alcie~2.\n"
+            + "Fields can also be searched with prefixes, in which case every field given must match one of the words "
+            + "after its prefix, and words ending with * match the start of a value.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or "
+            + "[" + PREFIX_NAME + "NAME_KEYWORDS] [" + PREFIX_PHONE + "PHONES] [" + PREFIX_EMAIL + "EMAILS] "
+            + "[" + PREFIX_ADDRESS + "ADDRESS_KEYWORDS] [" + PREFIX_TAG + "TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alex " + PREFIX_TAG + "friends "
+            + PREFIX_PHONE + "9123*";
+
+    private final PersonQuery query;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new PersonQuery(Collections.singletonList(
+                new QueryCondition(QueryCondition.Field.NAME, predicate.getKeywords()))));
+    }
+
+    public FindCommand(PersonQuery query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByQuery(query);
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -31,6 +54,6 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && this.predicate.equals(((FindCommand) other).predicate)); // state check
+                && this.query.equals(((FindCommand) other).query)); // state check
     }
 }
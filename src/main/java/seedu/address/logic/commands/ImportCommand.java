@@ -0,0 +1,162 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SizeEstimateUtil;
+import seedu.address.storage.PersonFileFormat;
+import seedu.address.storage.PersonImporter;
+
+/**
+ * Adds the persons in a CSV or vCard file to the address book, all at once.
+ * Records which are invalid or duplicate a person in the address book are skipped and reported by line.
+ */
+public class ImportCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons in a CSV (.csv) or vCard (.vcf) file to the address book. "
+            + "The columns of a CSV file are the name, phone, email, address and tags (separated by ;) of a person, "
+            + "unless its first line is a header naming the columns.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_RECORDS_SKIPPED = "%1$d record(s) skipped:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_RECORDS_SKIPPED = "... and %1$d more";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Cannot read file %1$s";
+
+    /** The number of skipped records whose errors are shown, so that a bad file does not flood the result. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path file;
+    private final PersonFileFormat format;
+    private List<ReadOnlyPerson> imported;
+    private Set<Tag> tagsAdded;
+    // the estimated size of imported, computed once as the undo history asks for it after every command
+    private long importedSize;
+
+    /**
+     * Creates an ImportCommand to import the persons in {@code file}, which is in {@code format}.
+     */
+    public ImportCommand(Path file, PersonFileFormat format) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        final PersonImporter.Result result;
+        try {
+            result = new PersonImporter().importPersons(file, format);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file));
+        }
+
+        final List<ReadOnlyPerson> persons = result.getPersons();
+        final Set<Tag> existingTags = new HashSet<>(model.getAddressBook().getTagList());
+        final boolean[] isAdded = model.addPersons(persons);
+        imported = new ArrayList<>();
+        importedSize = 0;
+        tagsAdded = new HashSet<>();
+        final SortedMap<Integer, String> errors = new TreeMap<>(result.getErrors());
+        for (int i = 0; i < persons.size(); i++) {
+            if (isAdded[i]) {
+                imported.add(persons.get(i));
+                importedSize += SizeEstimateUtil.estimateSize(persons.get(i));
+                persons.get(i).getTags().stream().filter(tag -> !existingTags.contains(tag)).forEach(tagsAdded::add);
+            } else {
+                errors.put(result.getLineNumbers().get(i), AddCommand.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, imported.size(), file) + describeErrors(errors));
+    }
+
+    /**
+     * Returns the first {@link #MAX_ERRORS_SHOWN} of {@code errors}, by line, on lines of their own.
+     */
+    private static String describeErrors(SortedMap<Integer, String> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+        final StringBuilder description = new StringBuilder("\n")
+                .append(String.format(MESSAGE_RECORDS_SKIPPED, errors.size()));
+        int shownCount = 0;
+        for (Map.Entry<Integer, String> error : errors.entrySet()) {
+            if (shownCount++ == MAX_ERRORS_SHOWN) {
+                description.append('\n').append(String.format(MESSAGE_MORE_RECORDS_SKIPPED,
+                        errors.size() - MAX_ERRORS_SHOWN));
+                break;
+            }
+            description.append('\n').append(String.format(MESSAGE_LINE_ERROR, error.getKey(), error.getValue()));
+        }
+        return description.toString();
+    }
+
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    /**
+     * Deletes the persons imported by the last execution and the tags they added, announcing the changes at once.
+     * The persons are deleted from the last one, as they were added to the end of the address book.
+     */
+    @Override
+    protected void undoUndoableCommand() {
+        requireNonNull(imported);
+        model.beginTransaction();
+        try {
+            for (int i = imported.size() - 1; i >= 0; i--) {
+                model.deletePerson(imported.get(i));
+            }
+            model.deleteTags(tagsAdded);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The imported persons cannot be missing");
+        } finally {
+            model.commitTransaction();
+        }
+    }
+
+    /**
+     * Adds the persons imported by the last execution again, rather than reading the file again, since it may have
+     * changed since.
+     */
+    @Override
+    protected void redoUndoableCommand() {
+        requireNonNull(imported);
+        model.addPersons(imported);
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        return importedSize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file)
+                && format == ((ImportCommand) other).format);
+    }
+}
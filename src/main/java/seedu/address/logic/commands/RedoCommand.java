@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.concurrent.CancellationException;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,7 +26,14 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popRedo().redo();
+        UndoableCommand toRedo = undoRedoStack.popRedo();
+        try {
+            toRedo.redo();
+        } catch (CancellationException ce) {
+            // a cancelled redo, e.g. of a sort, leaves the model unchanged, so it can still be redone
+            undoRedoStack.popUndo();
+            throw ce;
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -1,5 +1,11 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.util.SizeEstimateUtil;
+
 /**
  * Sorts all persons in the address book lexicographically.
  */
@@ -13,9 +19,32 @@ public class SortCommand extends UndoableCommand {
 
     public static final String MESSAGE_SUCCESS = "Sorted all persons";
 
+    private List<ReadOnlyPerson> previousOrder;
+
     @Override
     public CommandResult executeUndoableCommand() {
+        previousOrder = new ArrayList<>(model.getAddressBook().getPersonList());
         model.sort();
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    protected boolean isSnapshotRequired() {
+        return false;
+    }
+
+    @Override
+    protected void undoUndoableCommand() {
+        model.reorderPersons(previousOrder);
+    }
+
+    @Override
+    protected void redoUndoableCommand() {
+        model.sort();
+    }
+
+    @Override
+    public long getRetainedSizeEstimate() {
+        return previousOrder == null ? 0 : SizeEstimateUtil.REFERENCE_SIZE * previousOrder.size();
+    }
 }
@@ -1,27 +1,93 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SizeEstimateUtil;
 
 /**
  * Represents a command which can be undone and redone.
+ *
+ * Commands whose changes can be described by an inverse operation (e.g. add and delete) should override
+ * {@link #isSnapshotRequired()}, {@link #undoUndoableCommand()} and, if needed, {@link #redoUndoableCommand()}
+ * so that undoing and redoing them only costs as much as the change itself. Other commands fall back to
+ * restoring a copy of the whole address book that is taken before they are executed.
  */
 public abstract class UndoableCommand extends Command {
     private ReadOnlyAddressBook previousAddressBook;
+    private long previousAddressBookSize;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
+    /**
+     * Returns true if the state of {@code model#addressBook} has to be stored before this command is executed
+     * in order to undo it.
+     */
+    protected boolean isSnapshotRequired() {
+        return true;
+    }
+
+    /**
+     * Returns the state of {@code model#addressBook} stored before the last execution of this command.
+     * Only available to commands for which {@link #isSnapshotRequired()}.
+     */
+    protected ReadOnlyAddressBook getAddressBookSnapshot() {
+        requireNonNull(previousAddressBook);
+        return previousAddressBook;
+    }
+
+    /**
+     * Reverts the changes made by the last execution of {@link #executeUndoableCommand()}.
+     * By default, restores the state of {@code model#addressBook} stored before execution.
+     */
+    protected void undoUndoableCommand() {
+        requireNonNull(previousAddressBook);
+        model.resetData(previousAddressBook);
+    }
+
+    /**
+     * Reapplies the changes reverted by {@link #undoUndoableCommand()}.
+     * By default, executes the command again.
+     */
+    protected void redoUndoableCommand() throws CommandException {
+        executeUndoableCommand();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by this command in order to undo and redo it.
+     * Commands that record their own inverse operation should override this to account for what they record.
+     */
+    public long getRetainedSizeEstimate() {
+        return previousAddressBookSize;
+    }
+
     /**
      * Stores the current state of {@code model#addressBook}.
      */
     private void saveAddressBookSnapshot() {
         requireNonNull(model);
         this.previousAddressBook = new AddressBook(model.getAddressBook());
+        this.previousAddressBookSize = SizeEstimateUtil.estimateSize(previousAddressBook);
+    }
+
+    /**
+     * Returns the tags of {@code person} that are not in the master tag list of {@code model#addressBook}.
+     * These are the tags that will be added to the master tag list when {@code person} is added to it.
+     */
+    protected Set<Tag> getTagsNotInAddressBook(ReadOnlyPerson person) {
+        final List<Tag> existingTags = model.getAddressBook().getTagList();
+        return person.getTags().stream()
+                .filter(tag -> !existingTags.contains(tag))
+                .collect(Collectors.toSet());
     }
 
     /**
@@ -30,8 +96,8 @@ public abstract class UndoableCommand extends Command {
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireNonNull(model);
+        undoUndoableCommand();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -42,7 +108,7 @@ public abstract class UndoableCommand extends Command {
     protected final void redo() {
         requireNonNull(model);
         try {
-            executeUndoableCommand();
+            redoUndoableCommand();
         } catch (CommandException ce) {
             throw new AssertionError("The command has been successfully executed previously; "
                     + "it should not fail now");
@@ -52,7 +118,9 @@ public abstract class UndoableCommand extends Command {
 
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
+        if (isSnapshotRequired()) {
+            saveAddressBookSnapshot();
+        }
         return executeUndoableCommand();
     }
 }
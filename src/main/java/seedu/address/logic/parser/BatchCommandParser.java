@@ -0,0 +1,115 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object.
+ * Every command of the batch is parsed before any of them is executed.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_INVALID_BATCHED_COMMAND = "Command %1$d (%2$s) is invalid: %3$s";
+    public static final String MESSAGE_COMMAND_NOT_BATCHABLE =
+            "Only commands which change the address book, other than batch, undo and redo, can be batched";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Cannot read script file %1$s";
+
+    // a separator which is not part of an escaped separator
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(
+            "(?<!" + Pattern.quote(BatchCommand.SEPARATOR_ESCAPE) + ")"
+            + Pattern.quote(BatchCommand.COMMAND_SEPARATOR));
+
+    private final AddressBookParser addressBookParser;
+
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, if the script file cannot be
+     *     read, or if any of the commands is invalid or cannot be batched.
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        final String trimmedArgs = args.trim();
+        final List<String> lines = trimmedArgs.startsWith(PREFIX_FILE.getPrefix())
+                ? readScript(trimmedArgs.substring(PREFIX_FILE.getPrefix().length()).trim())
+                : splitCommands(trimmedArgs);
+
+        final List<String> commandTexts = new ArrayList<>();
+        final List<UndoableCommand> commands = new ArrayList<>();
+        for (String line : lines) {
+            final String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(BatchCommand.SCRIPT_COMMENT_MARKER)) {
+                continue;
+            }
+            commandTexts.add(commandText);
+            commands.add(parseBatchedCommand(commands.size() + 1, commandText));
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(commandTexts, commands);
+    }
+
+    /**
+     * Parses {@code commandText}, the {@code position}th command of the batch.
+     * @throws ParseException naming the command if it is invalid or cannot be batched.
+     */
+    private UndoableCommand parseBatchedCommand(int position, String commandText) throws ParseException {
+        final Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCHED_COMMAND, position, commandText,
+                    pe.getMessage()), pe);
+        }
+
+        if (!(command instanceof UndoableCommand) || command instanceof BatchCommand) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCHED_COMMAND, position, commandText,
+                    MESSAGE_COMMAND_NOT_BATCHABLE));
+        }
+        return (UndoableCommand) command;
+    }
+
+    /**
+     * Splits {@code args} at every {@link BatchCommand#COMMAND_SEPARATOR} that is not escaped, and unescapes the
+     * separators within the commands.
+     */
+    private static List<String> splitCommands(String args) {
+        final List<String> commandTexts = new ArrayList<>();
+        for (String commandText : SEPARATOR_PATTERN.split(args, -1)) {
+            commandTexts.add(commandText.replace(BatchCommand.ESCAPED_COMMAND_SEPARATOR,
+                    BatchCommand.COMMAND_SEPARATOR));
+        }
+        return commandTexts;
+    }
+
+    /**
+     * Returns the lines of the script file at {@code filePath}.
+     * @throws ParseException if the file cannot be read.
+     */
+    private static List<String> readScript(String filePath) throws ParseException {
+        try {
+            return Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, filePath), e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonFileFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT =
+            "Only CSV (.csv), vCard (.vcf, .vcard) and JSON (.json) files can be exported to";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The format of the file is given by the extension of its name.
+     * @throws ParseException if the user input does not conform the expected format, or the file is not in a
+     *     format that can be exported to.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        final ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        final Optional<String> filePath = argMultimap.getValue(PREFIX_FILE).map(String::trim);
+        if (!argMultimap.getPreamble().isEmpty() || !filePath.isPresent() || filePath.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        final Optional<PersonFileFormat> format = PersonFileFormat.fromFileName(filePath.get());
+        if (!format.isPresent()) {
+            throw new ParseException(MESSAGE_UNKNOWN_FORMAT);
+        }
+
+        final Path file;
+        try {
+            file = Paths.get(filePath.get());
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath.get()), ipe);
+        }
+        return new ExportCommand(file, format.get());
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -11,9 +14,14 @@ import seedu.address.model.person.PersonHasTagPredicate;
  * Parses input arguments and creates a new FilterCommand object
  */
 public class FilterCommandParser implements Parser<Command> {
+
+    public static final String AND_OPERATOR = "&";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
+     * Tags separated by {@link #AND_OPERATOR} form a group of tags that must all be present, and groups separated by
+     * whitespace only are alternatives, e.g. {@code friends & colleagues family}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FilterCommand parse(String args) throws ParseException {
@@ -22,6 +30,29 @@ public class FilterCommandParser implements Parser<Command> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
-        return new FilterCommand(new PersonHasTagPredicate(trimmedArgs));
+
+        String[] words = trimmedArgs.replace(AND_OPERATOR, " " + AND_OPERATOR + " ").trim().split("\\s+");
+        List<List<String>> tagGroups = new ArrayList<>();
+        boolean isAfterOperator = false;
+        for (String word : words) {
+            if (!word.equals(AND_OPERATOR)) {
+                if (!isAfterOperator) {
+                    tagGroups.add(new ArrayList<>());
+                }
+                tagGroups.get(tagGroups.size() - 1).add(word);
+                isAfterOperator = false;
+            } else if (tagGroups.isEmpty() || isAfterOperator) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+            } else {
+                isAfterOperator = true;
+            }
+        }
+
+        if (isAfterOperator) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        return new FilterCommand(new PersonHasTagPredicate(tagGroups));
     }
 }
@@ -1,21 +1,46 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.Field;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<Prefix, Field> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME, Field.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE, Field.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL, Field.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_ADDRESS, Field.ADDRESS);
+        FIELDS_BY_PREFIX.put(PREFIX_TAG, Field.TAG);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
+     * Arguments without prefixes are name keywords. Otherwise, each prefix is a condition that must hold, and the
+     * words after it are alternatives, e.g. {@code n/alex t/friends p/9123*}. Name keywords before the first prefix
+     * form one more condition.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -25,9 +50,35 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs,
+                FIELDS_BY_PREFIX.keySet().toArray(new Prefix[FIELDS_BY_PREFIX.size()]));
+        String preamble = argMultimap.getPreamble();
+        List<QueryCondition> conditions = new ArrayList<>();
+        for (Map.Entry<Prefix, Field> prefixAndField : FIELDS_BY_PREFIX.entrySet()) {
+            for (String value : argMultimap.getAllValues(prefixAndField.getKey())) {
+                conditions.add(new QueryCondition(prefixAndField.getValue(), splitTerms(value)));
+            }
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (conditions.isEmpty()) {
+            return new FindCommand(new NameContainsKeywordsPredicate(splitTerms(preamble)));
+        }
+        if (!preamble.isEmpty()) {
+            conditions.add(0, new QueryCondition(Field.NAME, splitTerms(preamble)));
+        }
+        return new FindCommand(new PersonQuery(conditions));
+    }
+
+    /**
+     * Returns the whitespace-separated terms of {@code value}.
+     * @throws ParseException if {@code value} has no terms.
+     */
+    private static List<String> splitTerms(String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(value.split("\\s+"));
     }
 
 }
@@ -3,8 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -12,6 +14,7 @@ import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -66,17 +69,21 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The tags of the new persons are made to point to the master tag list before the persons are put in the person
+     * list, as the persons may be displayed as soon as they are in it.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        try {
-            setPersons(newData.getPersonList());
-        } catch (DuplicatePersonException e) {
-            assert false : "AddressBooks should not have duplicate persons";
-        }
-
         setTags(new HashSet<>(newData.getTagList()));
-        syncMasterTagListWith(persons);
+        final List<Person> copies = copyPersons(newData.getPersonList());
+        syncMasterTagListWith(copies);
+
+        final UniquePersonList replacement = new UniquePersonList();
+        final boolean[] isAdded = replacement.addAll(copies);
+        for (boolean added : isAdded) {
+            assert added : "AddressBooks should not have duplicate persons";
+        }
+        persons.setPersons(replacement);
     }
 
     //// person-level operations
@@ -97,6 +104,51 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(newPerson);
     }
 
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     * The master tag list is updated in the same way as {@link #addPerson(ReadOnlyPerson)}.
+     *
+     * @throws DuplicatePersonException if an equivalent person already exists.
+     */
+    public void addPerson(int index, ReadOnlyPerson p) throws DuplicatePersonException {
+        Person newPerson = new Person(p);
+        syncMasterTagListWith(newPerson);
+        persons.add(index, newPerson);
+    }
+
+    /**
+     * Adds the persons in {@code newPersons} to the end of the person list in a single change, skipping each person
+     * that is equivalent to an existing person or to an earlier person in {@code newPersons}.
+     * The tags of the persons are made to point to the master tag list, or to a single object per tag not yet in it,
+     * before the persons are put in the person list, as the persons may be displayed as soon as they are in it.
+     * The master tag list is then updated once with the tags of all the persons added, so the tags of skipped persons
+     * are not added to it.
+     *
+     * @return whether each person of {@code newPersons}, by position, was added.
+     */
+    public boolean[] addPersons(List<? extends ReadOnlyPerson> newPersons) {
+        requireNonNull(newPersons);
+        final List<Person> copies = copyPersons(newPersons);
+        shareTagObjects(copies);
+
+        final boolean[] isAdded = persons.addAll(copies);
+        // in the order the tags are found in, so that the master list grows as if the persons were added one by one
+        final Set<Tag> addedTags = new LinkedHashSet<>();
+        for (int i = 0; i < copies.size(); i++) {
+            if (isAdded[i]) {
+                addedTags.addAll(copies.get(i).getTags());
+            }
+        }
+        tags.mergeFrom(new UniqueTagList(addedTags));
+        return isAdded;
+    }
+
+    private static List<Person> copyPersons(List<? extends ReadOnlyPerson> persons) {
+        final List<Person> copies = new ArrayList<>(persons.size());
+        persons.forEach(person -> copies.add(new Person(person)));
+        return copies;
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedReadOnlyPerson}.
      * {@code AddressBook}'s tag list will be updated with the tags of {@code editedReadOnlyPerson}.
@@ -143,10 +195,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Ensures that every tag in these persons:
      *  - exists in the master list {@link #tags}
      *  - points to a Tag object in the master list
+     * The master list is merged with the tags of all the persons at once, rather than once per person.
      *  @see #syncMasterTagListWith(Person)
      */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
+    private void syncMasterTagListWith(Iterable<Person> persons) {
+        // in the order the tags are found in, so that the master list grows as if the persons were synced one by one
+        final Set<Tag> personTags = new LinkedHashSet<>();
+        persons.forEach(person -> personTags.addAll(person.getTags()));
+        tags.mergeFrom(new UniqueTagList(personTags));
+        shareTagObjects(persons);
+    }
+
+    /**
+     * Makes every tag in these persons point to the equal Tag object in the master list {@link #tags}, or, for a tag
+     * not in the master list, to the same Tag object as every other equal tag in {@code persons}.
+     * The names of the tags do not change.
+     */
+    private void shareTagObjects(Iterable<Person> persons) {
+        final Map<Tag, Tag> tagObjects = new HashMap<>();
+        tags.forEach(tag -> tagObjects.put(tag, tag));
+
+        for (Person person : persons) {
+            final Set<Tag> correctTagReferences = new HashSet<>();
+            person.getTags().forEach(tag -> correctTagReferences.add(tagObjects.computeIfAbsent(tag, t -> t)));
+            person.setTags(correctTagReferences);
+        }
     }
 
     /**
@@ -167,12 +240,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sort();
     }
 
+    /**
+     * Rearranges the persons in this {@code AddressBook} to follow the order of {@code order}.
+     * @see UniquePersonList#reorder(List)
+     */
+    public void reorderPersons(List<? extends ReadOnlyPerson> order) {
+        persons.reorder(order);
+    }
+
+    /**
+     * Returns the position of the equivalent of {@code person} in this {@code AddressBook}, or -1 if there is none.
+     * The position is looked up rather than found by a scan.
+     */
+    public int indexOf(ReadOnlyPerson person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} with a name word starting with {@code prefix}, ignoring case.
+     * The persons are looked up in the name prefix trie of the person list rather than by a scan.
+     * @see UniquePersonList#getPersonsWithNameWordStartingWith(String)
+     */
+    public Set<ReadOnlyPerson> getPersonsWithNameWordStartingWith(String prefix) {
+        return persons.getPersonsWithNameWordStartingWith(prefix);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} tagged with every one of {@code tagNames}, ignoring case.
+     * The persons are looked up in the tag index of the person list rather than by a scan.
+     * @see UniquePersonList#getPersonsWithAllTags(Collection)
+     */
+    public Set<ReadOnlyPerson> getPersonsWithAllTags(Collection<String> tagNames) {
+        return persons.getPersonsWithAllTags(tagNames);
+    }
+
+    /**
+     * Returns the persons in this {@code AddressBook} matching {@code query}.
+     * The persons are looked up in the indexes of the person list where the query allows it.
+     * @see UniquePersonList#getPersonsMatching(PersonQuery)
+     */
+    public Set<ReadOnlyPerson> getPersonsMatching(PersonQuery query) {
+        return persons.getPersonsMatching(query);
+    }
+
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
     }
 
+    /**
+     * Removes {@code toRemove} from the master tag list.
+     * Callers must ensure that no person in this {@code AddressBook} is still tagged with them.
+     */
+    public void removeTags(Set<Tag> toRemove) {
+        tags.removeTags(toRemove);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of an {@code ObservableList} whose listeners can be notified of a batch of changes to the source list in a
+ * single change, so that they can show the whole batch in one pass rather than once per change.
+ *
+ * The view always holds the current elements of the source list, even while the changes to it are held back.
+ * Batches may be nested, in which case the changes are only announced at the end of the outermost batch.
+ */
+class BatchedChangeList<E> extends TransformationList<E, E> {
+
+    BatchedChangeList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Holds back the changes to the source list from the listeners of this list until {@link #endBatch()} is called.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Notifies the listeners of this list, in a single change, of the changes to the source list since the matching
+     * {@link #beginBatch()}.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            final int from = change.getFrom();
+            final int to = change.getTo();
+            if (change.wasPermutated()) {
+                final int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an {@code ObservableList}, which shows the elements of the source list matching a predicate.
+ *
+ * Unlike a {@code FilteredList}, the elements matching a predicate can also be given by their positions in the source
+ * list, e.g. as found through an index, so that the view is built in time proportional to the number of matches
+ * rather than to the size of the source list. Either way, only the elements added to the source list afterwards are
+ * tested against the predicate, so the cost of a change to the source list grows with the size of the change and the
+ * number of elements shown, rather than with the size of the source list.
+ */
+class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private Predicate<? super E> predicate;
+    // positions in the source list of the elements shown, in ascending order, of which the first size are in use
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a view of {@code source} which shows all of its elements.
+     */
+    IndexedFilteredList(ObservableList<? extends E> source) {
+        super(source);
+        predicate = element -> true;
+        filtered = new int[source.size()];
+        for (int i = 0; i < filtered.length; i++) {
+            filtered[i] = i;
+        }
+        size = filtered.length;
+    }
+
+    Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the elements of the source list matching {@code predicate}, testing every one of them.
+     */
+    void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        final ObservableList<? extends E> source = getSource();
+        final int[] matches = new int[source.size()];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+        this.predicate = predicate;
+        setFiltered(matches, matchCount);
+    }
+
+    /**
+     * Shows the elements at {@code sourceIndexes} in the source list, which must be exactly the elements matching
+     * {@code predicate}. The other elements of the source list are not tested.
+     */
+    void setMatches(Predicate<? super E> predicate, int[] sourceIndexes) {
+        requireNonNull(predicate);
+        final int[] matches = sourceIndexes.clone();
+        Arrays.sort(matches);
+        assert matches.length == 0 || (matches[0] >= 0 && matches[matches.length - 1] < getSource().size())
+                : "Matches must be positions in the source list";
+        this.predicate = predicate;
+        setFiltered(matches, matches.length);
+    }
+
+    /**
+     * Replaces the elements shown with those at the first {@code matchCount} positions of {@code matches}, in a
+     * single change.
+     */
+    private void setFiltered(int[] matches, int matchCount) {
+        beginChange();
+        if (size > 0) {
+            nextRemove(0, new ArrayList<>(this));
+        }
+        filtered = matches;
+        size = matchCount;
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                // updated elements are not tested again, in the same way as elements edited in place
+                for (int i = findPosition(change.getFrom()); i < findPosition(change.getTo()); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                replace(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Rearranges the elements shown which were moved by the permutation {@code change}.
+     */
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        final int from = findPosition(change.getFrom());
+        final int to = findPosition(change.getTo());
+        if (from == to) {
+            return;
+        }
+        final int[] moved = new int[to - from];
+        for (int i = from; i < to; i++) {
+            moved[i - from] = change.getPermutation(filtered[i]);
+        }
+        final int[] sorted = moved.clone();
+        Arrays.sort(sorted);
+        final int[] permutation = new int[to - from];
+        for (int i = 0; i < moved.length; i++) {
+            permutation[i] = from + Arrays.binarySearch(sorted, moved[i]);
+        }
+        System.arraycopy(sorted, 0, filtered, from, sorted.length);
+        nextPermutation(from, to, permutation);
+    }
+
+    /**
+     * Removes the elements shown which were removed by {@code change}, and shows the elements added by it which match
+     * the predicate.
+     */
+    private void replace(ListChangeListener.Change<? extends E> change) {
+        final int sourceFrom = change.getFrom();
+        final int removedSize = change.getRemovedSize();
+        final int from = findPosition(sourceFrom);
+        final int removedEnd = findPosition(sourceFrom + removedSize);
+        if (removedEnd > from) {
+            final List<E> removed = new ArrayList<>(removedEnd - from);
+            for (int i = from; i < removedEnd; i++) {
+                removed.add(change.getRemoved().get(filtered[i] - sourceFrom));
+            }
+            nextRemove(from, removed);
+        }
+
+        final List<? extends E> added = change.getAddedSubList();
+        final int[] matches = new int[added.size()];
+        int matchCount = 0;
+        for (int i = 0; i < added.size(); i++) {
+            if (predicate.test(added.get(i))) {
+                matches[matchCount++] = sourceFrom + i;
+            }
+        }
+
+        final int newSize = size - (removedEnd - from) + matchCount;
+        if (newSize > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(newSize, filtered.length * 2));
+        }
+        System.arraycopy(filtered, removedEnd, filtered, from + matchCount, size - removedEnd);
+        System.arraycopy(matches, 0, filtered, from, matchCount);
+        final int shift = added.size() - removedSize;
+        for (int i = from + matchCount; i < newSize; i++) {
+            filtered[i] += shift;
+        }
+        size = newSize;
+        if (matchCount > 0) {
+            nextAdd(from, from + matchCount);
+        }
+    }
+
+    /**
+     * Returns the number of elements shown which are before position {@code sourceIndex} in the source list.
+     */
+    private int findPosition(int sourceIndex) {
+        final int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagPredicate;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -21,12 +27,44 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a transaction, during which the changes to the AddressBook are made as usual but are only announced
+     * once, when the transaction is committed. Transactions cannot be nested.
+     * The filtered person list holds the changes as they are made, but its listeners are only notified of them when
+     * the transaction ends, in a single change.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, announcing the changes made during it in a single change event, if any.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction by replacing the AddressBook with {@code previousData}, which must be the state
+     * of the AddressBook when the transaction began. No change event is raised.
+     */
+    void rollbackTransaction(ReadOnlyAddressBook previousData);
+
     /** Deletes the given person. */
     void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException;
 
     /** Adds the given person */
     void addPerson(ReadOnlyPerson person) throws DuplicatePersonException;
 
+    /** Adds the given person at {@code index} of the address book's person list */
+    void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException;
+
+    /**
+     * Adds the given persons to the end of the address book's person list as one change, skipping the persons which
+     * are equivalent to an existing person or to an earlier person in {@code persons}.
+     * @return whether each of {@code persons}, by position, was added.
+     */
+    boolean[] addPersons(List<? extends ReadOnlyPerson> persons);
+
+    /** Removes the given tags from the address book's master tag list */
+    void deleteTags(Set<Tag> tags);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      *
@@ -45,11 +83,47 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter is left unchanged if the current thread is interrupted while a large list is being filtered.
      * @throws NullPointerException if {@code predicate} is null.
+     * @throws java.util.concurrent.CancellationException if the filtering is cancelled by an interrupt.
      */
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
-    /** Sorts the persons in the AddressBook lexicographically */
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}.
+     * The persons are looked up in the address book's tag index instead of testing every person, and are looked
+     * up again whenever a person is edited while this filter is in place.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByTag(PersonHasTagPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}, for searching
+     * as the user types. The persons are looked up in the address book's name prefix trie, or, if {@code predicate}
+     * only narrows the previous such search and the address book has not changed since, are taken from the result
+     * of the previous search.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByNamePrefix(NameStartsWithKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code query}.
+     * The query is planned to start from the persons looked up in the address book's indexes where possible, and
+     * the persons are looked up again whenever a person is edited while this filter is in place.
+     * The filter is left unchanged if the current thread is interrupted while the query is being run.
+     * @throws NullPointerException if {@code query} is null.
+     * @throws java.util.concurrent.CancellationException if the query is cancelled by an interrupt.
+     */
+    void updateFilteredPersonListByQuery(PersonQuery query);
+
+    /**
+     * Sorts the persons in the AddressBook lexicographically.
+     * The AddressBook is left unchanged if the current thread is interrupted while sorting.
+     * @throws java.util.concurrent.CancellationException if the sort is cancelled by an interrupt.
+     */
     void sort();
 
+    /** Rearranges the persons in the AddressBook to follow the order of {@code order} */
+    void reorderPersons(List<? extends ReadOnlyPerson> order);
+
 }
@@ -1,43 +1,85 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagPredicate;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
  * All changes to any model should be synchronized.
  */
 public class ModelManager extends ComponentManager implements Model {
+    /** The default number of persons from which filters are tested in parallel. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10000;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
-    private final FilteredList<ReadOnlyPerson> filteredPersons;
+    private final IndexedFilteredList<ReadOnlyPerson> filteredPersons;
+    // the view of filteredPersons given out, which announces the changes of a transaction or a bulk change at once
+    private final BatchedChangeList<ReadOnlyPerson> shownPersons;
+    private final int parallelFilterThreshold;
+    // finds the persons shown by filteredPersons through the address book's indexes or by testing them in
+    // parallel, or null if filteredPersons tests each person itself. Only run again when the whole address book is
+    // replaced, as filteredPersons tests the persons added or edited afterwards against its predicate
+    private Supplier<Set<ReadOnlyPerson>> indexedFilter;
+    // true while the change events of the address book are held back by a transaction
+    private boolean isInTransaction;
+    // true if the address book has changed since the current transaction began
+    private boolean hasChangedInTransaction;
+    // the last search by name prefix and its result, or null if the address book has changed since
+    private NameStartsWithKeywordsPredicate lastPrefixSearch;
+    private Set<ReadOnlyPerson> lastPrefixSearchResult;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which tests the predicates given to
+     * {@link #updateFilteredPersonList(Predicate)} in parallel once the address book holds at least
+     * {@code parallelFilterThreshold} persons.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, int parallelFilterThreshold) {
         super();
         requireAllNonNull(addressBook, userPrefs);
+        checkArgument(parallelFilterThreshold > 0, "Parallel filter threshold must be positive");
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new IndexedFilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new BatchedChangeList<>(filteredPersons);
+        this.parallelFilterThreshold = parallelFilterThreshold;
     }
 
     public ModelManager() {
@@ -47,6 +89,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         addressBook.resetData(newData);
+        refreshIndexedFilter();
         indicateAddressBookChanged();
     }
 
@@ -55,8 +98,44 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public synchronized void beginTransaction() {
+        assert !isInTransaction : "Transactions cannot be nested";
+        isInTransaction = true;
+        hasChangedInTransaction = false;
+        shownPersons.beginBatch();
+    }
+
+    @Override
+    public synchronized void commitTransaction() {
+        assert isInTransaction : "No transaction to commit";
+        isInTransaction = false;
+        shownPersons.endBatch();
+        if (hasChangedInTransaction) {
+            indicateAddressBookChanged();
+        }
+    }
+
+    @Override
+    public synchronized void rollbackTransaction(ReadOnlyAddressBook previousData) {
+        requireNonNull(previousData);
+        assert isInTransaction : "No transaction to roll back";
+        addressBook.resetData(previousData);
+        refreshIndexedFilter();
+        isInTransaction = false;
+        shownPersons.endBatch();
+    }
+
+    /**
+     * Raises an event to indicate the model has changed, or records the change to be announced when the current
+     * transaction is committed.
+     */
     private void indicateAddressBookChanged() {
+        lastPrefixSearch = null;
+        if (isInTransaction) {
+            hasChangedInTransaction = true;
+            return;
+        }
         raise(new AddressBookChangedEvent(addressBook));
     }
 
@@ -73,6 +152,34 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public synchronized void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException {
+        addressBook.addPerson(index, person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public synchronized boolean[] addPersons(List<? extends ReadOnlyPerson> persons) {
+        requireNonNull(persons);
+        final boolean[] isAdded;
+        shownPersons.beginBatch();
+        try {
+            isAdded = addressBook.addPersons(persons);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            shownPersons.endBatch();
+        }
+        indicateAddressBookChanged();
+        return isAdded;
+    }
+
+    @Override
+    public synchronized void deleteTags(Set<Tag> tags) {
+        addressBook.removeTags(tags);
+        indicateAddressBookChanged();
+    }
+
     @Override
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
@@ -84,8 +191,25 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public synchronized void sort() {
-        addressBook.sort();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        shownPersons.beginBatch();
+        try {
+            addressBook.sort();
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            shownPersons.endBatch();
+        }
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public synchronized void reorderPersons(List<? extends ReadOnlyPerson> order) {
+        shownPersons.beginBatch();
+        try {
+            addressBook.reorderPersons(order);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        } finally {
+            shownPersons.endBatch();
+        }
         indicateAddressBookChanged();
     }
 
@@ -102,13 +226,141 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(shownPersons);
     }
 
+    /**
+     * {@inheritDoc}
+     * Once the address book holds at least the parallel filter threshold of persons, {@code predicate} is tested
+     * against them in parallel, and the persons found are shown in one change to the filtered list.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || addressBook.getPersonList().size() < parallelFilterThreshold) {
+            indexedFilter = null;
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+        setIndexedFilter(() -> filterInParallel(predicate), predicate);
+    }
+
+    /**
+     * Returns the persons in the address book matched by {@code predicate}, testing them with fork/join.
+     *
+     * @throws CancellationException if the current thread is interrupted while waiting for the persons to be
+     *     tested, in which case the testing is cancelled.
+     */
+    private Set<ReadOnlyPerson> filterInParallel(Predicate<ReadOnlyPerson> predicate) {
+        final ReadOnlyPerson[] persons = addressBook.getPersonList().toArray(new ReadOnlyPerson[0]);
+        final boolean[] isMatch = new boolean[persons.length];
+        final ParallelFilterTask<ReadOnlyPerson> task =
+                new ParallelFilterTask<>(persons, predicate, isMatch, 0, persons.length);
+        try {
+            ForkJoinPool.commonPool().submit(task).get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException e) {
+            // only unchecked exceptions can be thrown by the predicate
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+
+        final Set<ReadOnlyPerson> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < persons.length; i++) {
+            if (isMatch[i]) {
+                matches.add(persons[i]);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void updateFilteredPersonListByTag(PersonHasTagPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedFilter(() -> {
+            final Set<ReadOnlyPerson> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Set<String> tagGroup : predicate.getTagGroups()) {
+                matches.addAll(addressBook.getPersonsWithAllTags(tagGroup));
+            }
+            return matches;
+        }, predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByNamePrefix(NameStartsWithKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedFilter(() -> searchByNamePrefix(predicate), predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByQuery(PersonQuery query) {
+        requireNonNull(query);
+        setIndexedFilter(() -> addressBook.getPersonsMatching(query), query);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, narrowing the result of the last search by name prefix if
+     * possible, and otherwise looking up the persons with the longest keyword in the name prefix trie.
+     */
+    private Set<ReadOnlyPerson> searchByNamePrefix(NameStartsWithKeywordsPredicate predicate) {
+        final Set<ReadOnlyPerson> candidates;
+        if (lastPrefixSearch != null && predicate.isNarrowerThan(lastPrefixSearch)) {
+            candidates = lastPrefixSearchResult;
+        } else {
+            final String longestKeyword = predicate.getKeywords().stream()
+                    .max(Comparator.comparingInt(String::length)).orElse("");
+            candidates = addressBook.getPersonsWithNameWordStartingWith(longestKeyword);
+        }
+
+        final Set<ReadOnlyPerson> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReadOnlyPerson person : candidates) {
+            if (predicate.test(person)) {
+                result.add(person);
+            }
+        }
+        lastPrefixSearch = predicate;
+        lastPrefixSearchResult = result;
+        return result;
+    }
+
+    /**
+     * Filters the filtered person list to show only the persons returned by {@code lookup}, which must be exactly
+     * the persons matching {@code predicate}. The list is built from the positions of the persons returned, so the
+     * persons which are not returned are never examined.
+     */
+    private void setIndexedFilter(Supplier<Set<ReadOnlyPerson>> lookup, Predicate<ReadOnlyPerson> predicate) {
+        final Set<ReadOnlyPerson> matches = lookup.get();
+        final int[] positions = new int[matches.size()];
+        int i = 0;
+        for (ReadOnlyPerson match : matches) {
+            positions[i++] = addressBook.indexOf(match);
+        }
+        indexedFilter = lookup;
+        filteredPersons.setMatches(predicate, positions);
+    }
+
+    /**
+     * Looks up the persons shown by the current indexed filter again, as all persons held by the address book
+     * have just been replaced.
+     * The address book has already changed when this is called, so if the look up is cancelled, all persons are
+     * shown instead of failing the change.
+     */
+    private void refreshIndexedFilter() {
+        lastPrefixSearch = null;
+        if (indexedFilter == null) {
+            return;
+        }
+        try {
+            setIndexedFilter(indexedFilter, filteredPersons.getPredicate()::test);
+        } catch (CancellationException ce) {
+            indexedFilter = null;
+            filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
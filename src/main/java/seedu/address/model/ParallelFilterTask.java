@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Tests a predicate against a range of an array with fork/join, marking the elements which satisfy it.
+ *
+ * The range is split in halves until each part holds at most {@link #CHUNK_SIZE} elements, and the parts are tested
+ * by the threads of the pool that the task is invoked in. Each part only writes to its own range of the marks, so
+ * the predicate must be safe to test from several threads at once but no locking is needed.
+ * Once the task that the range was first given to is cancelled, the parts which have not been tested yet are
+ * skipped.
+ */
+class ParallelFilterTask<T> extends RecursiveAction {
+
+    /** The number of elements below which a range is tested by one thread instead of being split. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final ParallelFilterTask<T> root;
+    private final T[] elements;
+    private final Predicate<? super T> predicate;
+    private final boolean[] isMatch;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs a task which sets {@code isMatch[i]} to whether {@code elements[i]} satisfies {@code predicate}, for
+     * every {@code i} from {@code start} inclusive to {@code end} exclusive.
+     */
+    ParallelFilterTask(T[] elements, Predicate<? super T> predicate, boolean[] isMatch, int start, int end) {
+        this(null, elements, predicate, isMatch, start, end);
+    }
+
+    /**
+     * Constructs a task testing part of the range of {@code root}, or a task testing a whole range if {@code root}
+     * is null.
+     */
+    private ParallelFilterTask(ParallelFilterTask<T> root, T[] elements, Predicate<? super T> predicate,
+                               boolean[] isMatch, int start, int end) {
+        assert elements.length == isMatch.length;
+        this.root = root == null ? this : root;
+        this.elements = elements;
+        this.predicate = predicate;
+        this.isMatch = isMatch;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+        if (root.isCancelled()) {
+            return;
+        }
+        if (end - start <= CHUNK_SIZE) {
+            for (int i = start; i < end; i++) {
+                isMatch[i] = predicate.test(elements[i]);
+            }
+            return;
+        }
+
+        int middle = (start + end) >>> 1;
+        invokeAll(new ParallelFilterTask<>(root, elements, predicate, isMatch, start, middle),
+                new ParallelFilterTask<>(root, elements, predicate, isMatch, middle, end));
+    }
+}
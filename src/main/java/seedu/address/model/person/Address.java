@@ -2,7 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's address in the address book.
@@ -21,6 +26,9 @@ public class Address {
 
     public final String value;
 
+    /** The lowercase words of {@link #value}, computed on first use. */
+    private List<String> words;
+
     /**
      * Validates given address.
      *
@@ -41,6 +49,18 @@ public class Address {
         return test.matches(ADDRESS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this address in lower case, in the order in which they appear.
+     * The list is computed once and shared by all callers, so matching against it does not allocate.
+     */
+    public List<String> getWords() {
+        if (words == null) {
+            // racy but benign, as every thread computes an equal unmodifiable list
+            words = Collections.unmodifiableList(Arrays.asList(StringUtil.toLowerCaseWords(value)));
+        }
+        return words;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -2,7 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -21,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The lowercase words of {@link #fullName}, computed on first use. */
+    private List<String> words;
+
     /**
      * Validates given name.
      *
@@ -43,6 +51,18 @@ public class Name {
     }
 
 
+    /**
+     * Returns the words of this name in lower case, in the order in which they appear.
+     * The list is computed once and shared by all callers, so matching against it does not allocate.
+     */
+    public List<String> getWords() {
+        if (words == null) {
+            // racy but benign, as every thread computes an equal unmodifiable list
+            words = Collections.unmodifiableList(Arrays.asList(StringUtil.toLowerCaseWords(fullName)));
+        }
+        return words;
+    }
+
     @Override
     public String toString() {
         return fullName;
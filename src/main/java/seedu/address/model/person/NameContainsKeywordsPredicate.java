@@ -2,23 +2,38 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.function.Predicate;
-
-import seedu.address.commons.util.StringUtil;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
+ * Fuzzy keywords, as described in {@link NameKeyword}, also match the words of the name within a few edits.
  */
 public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
     private final List<String> keywords;
+    private final List<NameKeyword> nameKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.nameKeywords = keywords.stream().map(NameKeyword::parse).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        // indexed loops over the cached name words, as this runs for every person on every find
+        final List<String> words = person.getName().getWords();
+        for (int i = 0; i < nameKeywords.size(); i++) {
+            NameKeyword keyword = nameKeywords.get(i);
+            for (int j = 0; j < words.size(); j++) {
+                if (keyword.matches(words.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
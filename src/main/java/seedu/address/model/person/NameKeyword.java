@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A keyword to be matched against the words of a person's name, ignoring case.
+ *
+ * A keyword ending with {@link #FUZZY_MARKER} is fuzzy, and also matches the words within a few edits of it. The
+ * number of edits allowed can be given after the marker, e.g. {@code alcie~2}; otherwise it depends on the length
+ * of the keyword, as in {@link #getDefaultMaxDistance(String)}.
+ */
+public class NameKeyword {
+
+    public static final String FUZZY_MARKER = "~";
+    public static final int MAX_FUZZY_DISTANCE = 2;
+
+    private static final Pattern FUZZY_KEYWORD_FORMAT =
+            Pattern.compile("(?<word>.+)" + FUZZY_MARKER + "(?<maxDistance>[0-" + MAX_FUZZY_DISTANCE + "])?");
+
+    /** The lowercase word to be matched. */
+    public final String word;
+    /** The number of edits by which a name word may differ from {@link #word}, which is 0 for exact keywords. */
+    public final int maxDistance;
+
+    private NameKeyword(String word, int maxDistance) {
+        this.word = word;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Parses {@code keyword} as typed by the user. Keywords which do not follow the fuzzy keyword format are exact.
+     */
+    public static NameKeyword parse(String keyword) {
+        requireNonNull(keyword);
+        final Matcher matcher = FUZZY_KEYWORD_FORMAT.matcher(keyword.trim());
+        if (!matcher.matches()) {
+            return new NameKeyword(NameTokenIndex.normalise(keyword), 0);
+        }
+
+        final String word = NameTokenIndex.normalise(matcher.group("word"));
+        final String maxDistance = matcher.group("maxDistance");
+        return new NameKeyword(word,
+                maxDistance == null ? getDefaultMaxDistance(word) : Integer.parseInt(maxDistance));
+    }
+
+    /**
+     * Returns the number of edits allowed for a fuzzy keyword {@code word} without an explicit number of edits:
+     * none for words of up to 2 characters, 1 for words of up to 5 characters and {@link #MAX_FUZZY_DISTANCE}
+     * for longer words.
+     */
+    public static int getDefaultMaxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : MAX_FUZZY_DISTANCE;
+    }
+
+    public boolean isFuzzy() {
+        return maxDistance > 0;
+    }
+
+    /**
+     * Returns true if the lowercase name word {@code nameWord} matches this keyword.
+     */
+    public boolean matches(String nameWord) {
+        if (!isFuzzy()) {
+            return word.equals(nameWord);
+        }
+        return Math.abs(word.length() - nameWord.length()) <= maxDistance
+                && StringUtil.getEditDistance(word, nameWord) <= maxDistance;
+    }
+}
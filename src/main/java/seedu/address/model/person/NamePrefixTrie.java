@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A prefix trie over the lowercase words of persons' names, which finds the persons with a name word starting with
+ * a given prefix in time proportional to the number of words with that prefix rather than the number of persons.
+ *
+ * Persons are held by identity, so the trie must be given the same person objects that are kept in the list being
+ * indexed, and a person must be removed from the trie before its name is changed.
+ */
+public class NamePrefixTrie {
+
+    private Node root = new Node();
+
+    /**
+     * Adds {@code person} under every word in its name.
+     */
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.wordsOf(person)) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+            }
+            if (node.persons == null) {
+                node.persons = newIdentitySet();
+            }
+            node.persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under every word in its name, pruning the nodes that are no longer used.
+     */
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.wordsOf(person)) {
+            final List<Node> path = new ArrayList<>(word.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.children.get(word.charAt(i));
+                path.add(node);
+            }
+            if (node == null || node.persons == null || !node.persons.remove(person)) {
+                continue;
+            }
+
+            for (int i = word.length(); i > 0 && path.get(i).isUnused(); i--) {
+                path.get(i - 1).children.remove(word.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this trie with a copy of the contents of {@code other}.
+     */
+    public void setAll(NamePrefixTrie other) {
+        root = other.root.copy();
+    }
+
+    /**
+     * Returns the persons with a name word starting with {@code prefix}, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithWordStartingWith(String prefix) {
+        requireNonNull(prefix);
+        final String normalisedPrefix = NameTokenIndex.normalise(prefix);
+        final Set<ReadOnlyPerson> matches = newIdentitySet();
+
+        Node node = root;
+        for (int i = 0; i < normalisedPrefix.length() && node != null; i++) {
+            node = node.children.get(normalisedPrefix.charAt(i));
+        }
+        if (node == null) {
+            return matches;
+        }
+
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(node);
+        while (!toVisit.isEmpty()) {
+            Node visited = toVisit.pop();
+            if (visited.persons != null) {
+                matches.addAll(visited.persons);
+            }
+            visited.children.values().forEach(toVisit::push);
+        }
+        return matches;
+    }
+
+    private static Set<ReadOnlyPerson> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A node of the trie, holding the persons with a name word that ends at this node.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Set<ReadOnlyPerson> persons;
+
+        private boolean isUnused() {
+            return children.isEmpty() && (persons == null || persons.isEmpty());
+        }
+
+        /**
+         * Returns a copy of the subtree rooted at this node, sharing the persons but not the sets holding them.
+         */
+        private Node copy() {
+            final Node copy = new Node();
+            children.forEach((character, child) -> copy.children.put(character, child.copy()));
+            if (persons != null) {
+                copy.persons = newIdentitySet();
+                copy.persons.addAll(persons);
+            }
+            return copy;
+        }
+    }
+}
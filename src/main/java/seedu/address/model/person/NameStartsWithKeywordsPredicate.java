@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that every keyword given is the start of some word of a {@code ReadOnlyPerson}'s {@code Name}, ignoring case.
+ */
+public class NameStartsWithKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+    private final List<String> keywords;
+    private final List<String> prefixes;
+
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.prefixes = keywords.stream().map(NameTokenIndex::normalise).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if every person matched by this predicate is also matched by {@code other}, because each keyword
+     * of {@code other} is the start of some keyword of this predicate.
+     */
+    public boolean isNarrowerThan(NameStartsWithKeywordsPredicate other) {
+        return other.prefixes.stream().allMatch(otherPrefix -> prefixes.stream().anyMatch(prefix ->
+                prefix.startsWith(otherPrefix)));
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        final List<String> words = person.getName().getWords();
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (!hasWordStartingWith(words, prefixes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if some word of {@code words} starts with {@code prefix}.
+     */
+    private static boolean hasWordStartingWith(List<String> words, String prefix) {
+        for (int i = 0; i < words.size(); i++) {
+            if (words.get(i).startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameStartsWithKeywordsPredicate // instanceof handles nulls
+                && this.keywords.equals(((NameStartsWithKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
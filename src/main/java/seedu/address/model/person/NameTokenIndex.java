@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An inverted index from the lowercase words of persons' names to the persons whose names contain them.
+ *
+ * The words are also kept in a {@link WordBkTree}, so that the words near a fuzzy keyword can be found without
+ * comparing it with every word. Words are left in the tree when the last person with them is removed, and the tree
+ * is rebuilt once most of its words are no longer used.
+ */
+public class NameTokenIndex extends PersonIndex {
+
+    // the tree is not rebuilt while it holds fewer unused words than this
+    private static final int MIN_UNUSED_WORDS_BEFORE_REBUILD = 1024;
+
+    private WordBkTree words = new WordBkTree();
+
+    /**
+     * Returns the persons whose names contain any of {@code keywords} as a full word, ignoring case.
+     * Fuzzy keywords, as described in {@link NameKeyword}, also match the words within their number of edits.
+     * The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        final Set<ReadOnlyPerson> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            NameKeyword nameKeyword = NameKeyword.parse(keyword);
+            if (!nameKeyword.isFuzzy()) {
+                matches.addAll(getPosting(nameKeyword.word));
+                continue;
+            }
+            for (String word : words.getWordsWithin(nameKeyword.word, nameKeyword.maxDistance)) {
+                matches.addAll(getPosting(word));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected void onKeyAdded(String key) {
+        words.add(key);
+    }
+
+    @Override
+    protected void onKeyRemoved(String key) {
+        int unusedWords = words.size() - getKeys().size();
+        if (unusedWords >= MIN_UNUSED_WORDS_BEFORE_REBUILD && unusedWords > getKeys().size()) {
+            onKeysReplaced();
+        }
+    }
+
+    @Override
+    protected void onKeysReplaced() {
+        words = new WordBkTree();
+        getKeys().forEach(words::add);
+    }
+
+    @Override
+    protected Set<String> keysOf(ReadOnlyPerson person) {
+        return wordsOf(person);
+    }
+
+    /**
+     * Returns the distinct lowercase words of {@code person}'s name.
+     */
+    static Set<String> wordsOf(ReadOnlyPerson person) {
+        return new HashSet<>(person.getName().getWords());
+    }
+
+    /**
+     * Returns {@code word} in the case in which it is indexed.
+     */
+    static String normalise(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,35 +1,66 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code ReadOnlyPerson}'s {@code UniqueTagList} contains the specific tag.
+ * Tests that a {@code ReadOnlyPerson}'s {@code UniqueTagList} contains the specific tags.
+ *
+ * The tags are given as groups, and a person matches if it has all the tags of any one group.
+ * Tag names are compared case-insensitively.
  */
 public class PersonHasTagPredicate implements Predicate<ReadOnlyPerson> {
-    private final String tagKeyword;
+    private final List<Set<String>> tagGroups;
 
     public PersonHasTagPredicate(String tagKeyword) {
-        this.tagKeyword = tagKeyword.toLowerCase();
+        this(Collections.singletonList(Collections.singletonList(tagKeyword)));
+    }
+
+    /**
+     * Constructs a predicate matching the persons that have all the tags of any of {@code tagGroups}.
+     *
+     * @throws IllegalArgumentException if any of {@code tagGroups} is empty.
+     */
+    public PersonHasTagPredicate(List<? extends Collection<String>> tagGroups) {
+        this.tagGroups = new ArrayList<>();
+        for (Collection<String> tagGroup : tagGroups) {
+            checkArgument(!tagGroup.isEmpty(), "Tag groups cannot be empty");
+            Set<String> lowerCaseTagGroup = new HashSet<>();
+            tagGroup.forEach(tagKeyword -> lowerCaseTagGroup.add(tagKeyword.toLowerCase(Locale.ROOT)));
+            this.tagGroups.add(lowerCaseTagGroup);
+        }
+    }
+
+    /**
+     * Returns the lowercase tag names of each group, of which a person must have all the tags of any one group.
+     */
+    public List<Set<String>> getTagGroups() {
+        return Collections.unmodifiableList(tagGroups);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        Set<Tag> tagSet = person.getTags();
-        for (Tag t: tagSet) {
-            if (t.tagName.toLowerCase().equals(tagKeyword)) {
-                return true;
-            }
+        Set<String> tagNames = new HashSet<>();
+        for (Tag t: person.getTags()) {
+            tagNames.add(t.tagName.toLowerCase(Locale.ROOT));
         }
-        return false;
+        return tagGroups.stream().anyMatch(tagNames::containsAll);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PersonHasTagPredicate // instanceof handles nulls
-                && this.tagKeyword.equals(((PersonHasTagPredicate) other).tagKeyword)); // state check
+                && this.tagGroups.equals(((PersonHasTagPredicate) other).tagGroups)); // state check
     }
 }
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from keys derived from persons, e.g. the words of their names, to the persons with those keys.
+ *
+ * Persons are held by identity, so the index must be given the same person objects that are kept in the list
+ * being indexed, and a person must be removed from the index before the fields its keys are derived from change.
+ */
+abstract class PersonIndex {
+
+    private final Map<String, Set<ReadOnlyPerson>> postings = new HashMap<>();
+
+    /**
+     * Returns the keys that {@code person} is indexed under.
+     */
+    protected abstract Set<String> keysOf(ReadOnlyPerson person);
+
+    /**
+     * Adds {@code person} to the posting list of each of its keys.
+     */
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String key : keysOf(person)) {
+            Set<ReadOnlyPerson> posting = postings.get(key);
+            if (posting == null) {
+                posting = newIdentitySet();
+                postings.put(key, posting);
+                onKeyAdded(key);
+            }
+            posting.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of each of its keys.
+     */
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (String key : keysOf(person)) {
+            Set<ReadOnlyPerson> posting = postings.get(key);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(key);
+                onKeyRemoved(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}, which must index the same keys.
+     */
+    public void setAll(PersonIndex other) {
+        postings.clear();
+        other.postings.forEach((key, posting) -> {
+            Set<ReadOnlyPerson> copy = newIdentitySet();
+            copy.addAll(posting);
+            postings.put(key, copy);
+        });
+        onKeysReplaced();
+    }
+
+    public void clear() {
+        postings.clear();
+        onKeysReplaced();
+    }
+
+    /**
+     * Called when the first person with {@code key} is added.
+     */
+    protected void onKeyAdded(String key) {}
+
+    /**
+     * Called when the last person with {@code key} is removed.
+     */
+    protected void onKeyRemoved(String key) {}
+
+    /**
+     * Called when all the keys of this index have been replaced.
+     */
+    protected void onKeysReplaced() {}
+
+    /**
+     * Returns an unmodifiable view of the keys which have persons indexed under them.
+     */
+    protected Set<String> getKeys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons indexed under {@code key}.
+     */
+    protected Set<ReadOnlyPerson> getPosting(String key) {
+        final Set<ReadOnlyPerson> posting = postings.get(key);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns an empty set which compares persons by identity.
+     */
+    protected static Set<ReadOnlyPerson> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code ReadOnlyPerson} satisfies every one of a list of {@code QueryCondition}s.
+ *
+ * Testing every person against the query in turn is the slow path; {@link UniquePersonList#getPersonsMatching}
+ * answers the same query through a {@link PersonQueryPlan}, which uses the indexes of the list where it can.
+ */
+public class PersonQuery implements Predicate<ReadOnlyPerson> {
+    private final List<QueryCondition> conditions;
+
+    public PersonQuery(List<QueryCondition> conditions) {
+        requireNonNull(conditions);
+        this.conditions = new ArrayList<>(conditions);
+    }
+
+    public List<QueryCondition> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return conditions.stream().allMatch(condition -> condition.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonQuery // instanceof handles nulls
+                && this.conditions.equals(((PersonQuery) other).conditions)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return conditions.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkNotInterrupted;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import seedu.address.model.person.QueryCondition.Term;
+
+/**
+ * A plan for finding the persons that match a {@code PersonQuery} with the help of the indexes of a list of persons.
+ *
+ * Of the conditions that can be looked up in an index, the one expected to match the fewest persons is looked up to
+ * give the candidates; if there is none, every person is a candidate. The other conditions are checked against each
+ * candidate in increasing order of cost / (1 - selectivity), so that cheap conditions which reject most persons are
+ * checked first, and checking a candidate stops at the first condition it fails.
+ *
+ * The number of persons matching an exact name or tag term is the size of its posting list. Fuzzy and prefix name
+ * terms, and conditions on other fields, are assumed to match a fixed fraction of the persons.
+ */
+class PersonQueryPlan {
+
+    // ranks the conditions which are expected to match every person last, instead of dividing by zero
+    private static final double MIN_REJECTED_FRACTION = 1e-6;
+    // the number of candidates checked between checks for the cancellation of the query
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final NameTokenIndex nameIndex;
+    private final NamePrefixTrie namePrefixTrie;
+    private final TagIndex tagIndex;
+    private final QueryCondition lookup;
+    private final List<QueryCondition> checks;
+
+    /**
+     * Plans {@code query} against a list of {@code personCount} persons with the indexes given.
+     */
+    PersonQueryPlan(PersonQuery query, int personCount, NameTokenIndex nameIndex, NamePrefixTrie namePrefixTrie,
+                    TagIndex tagIndex) {
+        requireAllNonNull(query, nameIndex, namePrefixTrie, tagIndex);
+        this.nameIndex = nameIndex;
+        this.namePrefixTrie = namePrefixTrie;
+        this.tagIndex = tagIndex;
+
+        final Map<QueryCondition, Double> selectivities = new HashMap<>();
+        QueryCondition bestLookup = null;
+        double bestLookupMatches = Double.POSITIVE_INFINITY;
+        for (QueryCondition condition : query.getConditions()) {
+            if (!condition.isIndexed()) {
+                selectivities.put(condition, condition.getDefaultSelectivity());
+                continue;
+            }
+            double estimatedMatches = estimateMatches(condition, personCount);
+            selectivities.put(condition, personCount == 0 ? 0 : Math.min(estimatedMatches / personCount, 1));
+            if (estimatedMatches < bestLookupMatches) {
+                bestLookup = condition;
+                bestLookupMatches = estimatedMatches;
+            }
+        }
+
+        this.lookup = bestLookup;
+        this.checks = new ArrayList<>(query.getConditions());
+        checks.remove(lookup);
+        checks.sort(Comparator.comparingDouble(condition -> condition.getCost()
+                / Math.max(1 - selectivities.get(condition), MIN_REJECTED_FRACTION)));
+    }
+
+    /**
+     * Returns the condition that is looked up in an index to give the candidates, if any.
+     */
+    Optional<QueryCondition> getLookup() {
+        return Optional.ofNullable(lookup);
+    }
+
+    /**
+     * Returns the conditions checked against each candidate, in the order in which they are checked.
+     */
+    List<QueryCondition> getChecks() {
+        return Collections.unmodifiableList(checks);
+    }
+
+    /**
+     * Returns the persons of {@code persons}, which must be the persons indexed, that match the query.
+     * The returned set compares persons by identity.
+     *
+     * @throws CancellationException if the current thread is interrupted while checking the candidates.
+     */
+    Set<ReadOnlyPerson> execute(List<? extends ReadOnlyPerson> persons) {
+        final Collection<? extends ReadOnlyPerson> candidates = lookup == null ? persons : lookUp(lookup);
+        final Set<ReadOnlyPerson> matches = PersonIndex.newIdentitySet();
+        int checkedCount = 0;
+        for (ReadOnlyPerson candidate : candidates) {
+            if (++checkedCount % CANCELLATION_CHECK_INTERVAL == 0) {
+                checkNotInterrupted();
+            }
+            if (passesChecks(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if {@code candidate} satisfies every one of {@link #checks}, checking them in order.
+     */
+    private boolean passesChecks(ReadOnlyPerson candidate) {
+        for (int i = 0; i < checks.size(); i++) {
+            if (!checks.get(i).test(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the estimated number of persons matching the indexed {@code condition}.
+     */
+    private double estimateMatches(QueryCondition condition, int personCount) {
+        double estimatedMatches = 0;
+        for (Term term : condition.getParsedTerms()) {
+            if (condition.getField() == QueryCondition.Field.TAG) {
+                estimatedMatches += tagIndex.getPosting(term.stem).size();
+            } else if (term.nameKeyword != null && !term.nameKeyword.isFuzzy()) {
+                estimatedMatches += nameIndex.getPosting(term.nameKeyword.word).size();
+            } else {
+                estimatedMatches += personCount * term.getDefaultSelectivity();
+            }
+        }
+        return estimatedMatches;
+    }
+
+    /**
+     * Returns the persons matching the indexed {@code condition}, looked up in its index.
+     */
+    private Set<ReadOnlyPerson> lookUp(QueryCondition condition) {
+        final Set<ReadOnlyPerson> matches = PersonIndex.newIdentitySet();
+        final List<String> nameKeywords = new ArrayList<>();
+        for (Term term : condition.getParsedTerms()) {
+            if (condition.getField() == QueryCondition.Field.TAG) {
+                matches.addAll(tagIndex.getPosting(term.stem));
+            } else if (term.isPrefix) {
+                matches.addAll(namePrefixTrie.getPersonsWithWordStartingWith(term.stem));
+            } else {
+                nameKeywords.add(term.text);
+            }
+        }
+        matches.addAll(nameIndex.getPersonsWithAnyWord(nameKeywords));
+        return matches;
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that one field of a {@code ReadOnlyPerson} matches any of the terms given, ignoring case.
+ *
+ * A term ending with {@link #PREFIX_MARKER} matches the values starting with the rest of the term, e.g.
+ * {@code 9123*} matches the phone numbers starting with 9123. Otherwise, names and addresses match the terms that
+ * are one of their words, name terms may be fuzzy as described in {@link NameKeyword}, and phones, emails and tags
+ * must equal the term.
+ */
+public class QueryCondition implements Predicate<ReadOnlyPerson> {
+
+    public static final String PREFIX_MARKER = "*";
+
+    /**
+     * The fields of a person that a condition can test.
+     * The cost of each field is a rough relative cost of testing one term against one person.
+     */
+    public enum Field {
+        NAME(2), PHONE(1), EMAIL(1), ADDRESS(3), TAG(2);
+
+        private final int cost;
+
+        Field(int cost) {
+            this.cost = cost;
+        }
+    }
+
+    // the fraction of persons that a term is expected to match, when it cannot be looked up in an index
+    private static final double EXACT_TERM_SELECTIVITY = 0.01;
+    private static final double PREFIX_TERM_SELECTIVITY = 0.1;
+    // how many times more costly it is to test a fuzzy name term than an exact one
+    private static final int FUZZY_TERM_COST_FACTOR = 10;
+
+    private final Field field;
+    private final List<String> terms;
+    private final List<Term> parsedTerms = new ArrayList<>();
+
+    /**
+     * Constructs a condition matching the persons whose {@code field} matches any of {@code terms}.
+     * A condition without terms matches no one.
+     */
+    public QueryCondition(Field field, List<String> terms) {
+        requireAllNonNull(field, terms);
+        this.field = field;
+        this.terms = new ArrayList<>(terms);
+        terms.forEach(term -> parsedTerms.add(new Term(field, term)));
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public List<String> getTerms() {
+        return Collections.unmodifiableList(terms);
+    }
+
+    List<Term> getParsedTerms() {
+        return Collections.unmodifiableList(parsedTerms);
+    }
+
+    /**
+     * Returns true if this condition can be answered by looking up its terms in an index of persons, i.e. the name
+     * indexes for names and the tag index for tags which are not matched by prefix.
+     */
+    boolean isIndexed() {
+        return field == Field.NAME
+                || (field == Field.TAG && parsedTerms.stream().noneMatch(term -> term.isPrefix));
+    }
+
+    /**
+     * Returns the estimated relative cost of testing this condition against one person.
+     */
+    double getCost() {
+        double cost = 0;
+        for (Term term : parsedTerms) {
+            boolean isFuzzy = term.nameKeyword != null && term.nameKeyword.isFuzzy();
+            cost += field.cost * (isFuzzy ? FUZZY_TERM_COST_FACTOR : 1);
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the fraction of persons that this condition is expected to match, without the help of an index.
+     */
+    double getDefaultSelectivity() {
+        double selectivity = 0;
+        for (Term term : parsedTerms) {
+            selectivity += term.getDefaultSelectivity();
+        }
+        return Math.min(selectivity, 1);
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        for (int i = 0; i < parsedTerms.size(); i++) {
+            if (parsedTerms.get(i).matches(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCondition // instanceof handles nulls
+                && this.field == ((QueryCondition) other).field
+                && this.terms.equals(((QueryCondition) other).terms)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + terms;
+    }
+
+    /**
+     * A term of a condition, as typed by the user, prepared for matching against one field.
+     */
+    static class Term {
+        /** The term as given, without leading and trailing whitespace. */
+        final String text;
+        /** The lowercase term without the {@link QueryCondition#PREFIX_MARKER}. */
+        final String stem;
+        final boolean isPrefix;
+        /** The term as a name keyword, if it is an exact or fuzzy name term. */
+        final NameKeyword nameKeyword;
+        private final Field field;
+
+        /**
+         * Prepares {@code term} for matching against {@code field}.
+         */
+        Term(Field field, String term) {
+            final String trimmedTerm = term.trim();
+            this.text = trimmedTerm;
+            this.field = field;
+            this.isPrefix = trimmedTerm.endsWith(PREFIX_MARKER);
+            this.stem = (isPrefix ? trimmedTerm.substring(0, trimmedTerm.length() - PREFIX_MARKER.length())
+                                  : trimmedTerm).toLowerCase(Locale.ROOT);
+            this.nameKeyword = (field == Field.NAME && !isPrefix) ? NameKeyword.parse(trimmedTerm) : null;
+        }
+
+        /**
+         * Returns the fraction of persons that this term is expected to match, without the help of an index.
+         */
+        double getDefaultSelectivity() {
+            return isPrefix ? PREFIX_TERM_SELECTIVITY : EXACT_TERM_SELECTIVITY;
+        }
+
+        /**
+         * Returns true if the field of {@code person} that this term is for matches this term.
+         */
+        boolean matches(ReadOnlyPerson person) {
+            switch (field) {
+            case NAME:
+                return nameKeyword == null ? anyWordStartsWith(person.getName().getWords())
+                                           : anyWordMatchesNameKeyword(person.getName().getWords());
+            case PHONE:
+                return matchesValue(person.getPhone().value);
+            case EMAIL:
+                return matchesValue(person.getEmail().value);
+            case ADDRESS:
+                return isPrefix ? anyWordStartsWith(person.getAddress().getWords())
+                                : person.getAddress().getWords().contains(stem);
+            case TAG:
+                for (Tag tag : person.getTags()) {
+                    if (matchesValue(tag.tagName)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                throw new AssertionError("Unknown field " + field);
+            }
+        }
+
+        /**
+         * Returns true if {@code value} equals this term, or starts with it if this is a prefix term.
+         */
+        private boolean matchesValue(String value) {
+            return isPrefix ? value.regionMatches(true, 0, stem, 0, stem.length())
+                            : value.equalsIgnoreCase(stem);
+        }
+
+        /**
+         * Returns true if any of the lowercase {@code words} starts with {@link #stem}.
+         */
+        private boolean anyWordStartsWith(List<String> words) {
+            for (int i = 0; i < words.size(); i++) {
+                if (words.get(i).startsWith(stem)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if any of the lowercase {@code words} matches {@link #nameKeyword}.
+         */
+        private boolean anyWordMatchesNameKeyword(List<String> words) {
+            for (int i = 0; i < words.size(); i++) {
+                if (nameKeyword.matches(words.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the lowercase names of tags to the persons tagged with them.
+ */
+public class TagIndex extends PersonIndex {
+
+    /**
+     * Returns the persons tagged with every one of {@code tagNames}, ignoring case.
+     * Only the persons with the least used of the tags are examined, so the cost depends on the size of the
+     * result rather than on the number of persons indexed. The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        final List<Set<ReadOnlyPerson>> postings = new ArrayList<>();
+        for (String tagName : tagNames) {
+            postings.add(getPosting(normalise(tagName)));
+        }
+        final Set<ReadOnlyPerson> matches = newIdentitySet();
+        if (postings.isEmpty()) {
+            return matches;
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        for (ReadOnlyPerson person : postings.get(0)) {
+            if (postings.stream().allMatch(posting -> posting.contains(person))) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lowercase names of {@code person}'s tags.
+     */
+    @Override
+    protected Set<String> keysOf(ReadOnlyPerson person) {
+        final Set<String> tagNames = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tagNames.add(normalise(tag.tagName));
+        }
+        return tagNames;
+    }
+
+    private static String normalise(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+}
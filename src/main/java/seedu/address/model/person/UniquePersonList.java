@@ -1,9 +1,20 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.AppUtil.checkNotInterrupted;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 import org.fxmisc.easybind.EasyBind;
 
@@ -18,21 +29,47 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An identity index (person's identity fields to position in the backing list) is maintained alongside
+ * the backing list, so that duplicate checks and lookups do not require a linear scan of the list.
+ * A {@link NameTokenIndex}, a {@link NamePrefixTrie} and a {@link TagIndex} of the persons in the list are also
+ * maintained, so that persons can be found by the words in their names, by the starts of those words and by their
+ * tags, and so that a {@link PersonQuery} can start from the persons found through them.
+ *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    // the number of comparisons made by a sort between checks for its cancellation
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // position of every person in internalList, keyed by the person's identity fields
+    private final Map<PersonKey, Integer> positions = new HashMap<>();
+    // persons in internalList, keyed by the words in their names
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    // persons in internalList, keyed by the starts of the words in their names
+    private final NamePrefixTrie namePrefixTrie = new NamePrefixTrie();
+    // persons in internalList, keyed by their tags
+    private final TagIndex tagIndex = new TagIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(new PersonKey(toCheck));
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is none.
+     */
+    public int indexOf(ReadOnlyPerson toFind) {
+        requireNonNull(toFind);
+        final Integer index = positions.get(new PersonKey(toFind));
+        return index == null ? -1 : index;
     }
 
     /**
@@ -42,10 +79,56 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(ReadOnlyPerson toAdd) throws DuplicatePersonException {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        final PersonKey key = new PersonKey(toAdd);
+        if (positions.containsKey(key)) {
+            throw new DuplicatePersonException();
+        }
+        final Person person = new Person(toAdd);
+        positions.put(key, internalList.size());
+        internalList.add(person);
+        addToIndexes(person);
+    }
+
+    /**
+     * Adds a person to the list at position {@code index}, shifting subsequent persons back.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size]}.
+     */
+    public void add(int index, ReadOnlyPerson toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        final PersonKey key = new PersonKey(toAdd);
+        if (positions.containsKey(key)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        final Person person = new Person(toAdd);
+        internalList.add(index, person);
+        addToIndexes(person);
+        reindexFrom(index);
+    }
+
+    /**
+     * Adds the persons in {@code toAdd} to the end of the list in a single change, skipping each person that is a
+     * duplicate of a person in the list or of an earlier person in {@code toAdd}.
+     * Unlike {@link #add(ReadOnlyPerson)}, the persons are held by the list as given rather than copied.
+     *
+     * @return whether each person of {@code toAdd}, by position, was added.
+     */
+    public boolean[] addAll(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        final boolean[] isAdded = new boolean[toAdd.size()];
+        final List<Person> added = new ArrayList<>(toAdd.size());
+        for (int i = 0; i < toAdd.size(); i++) {
+            final Person person = requireNonNull(toAdd.get(i));
+            final PersonKey key = new PersonKey(person);
+            if (positions.putIfAbsent(key, internalList.size() + added.size()) == null) {
+                isAdded[i] = true;
+                added.add(person);
+            }
+        }
+        internalList.addAll(added);
+        added.forEach(this::addToIndexes);
+        return isAdded;
     }
 
     /**
@@ -58,16 +141,22 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        final PersonKey targetKey = new PersonKey(target);
+        final Integer index = positions.get(targetKey);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        final PersonKey editedKey = new PersonKey(editedPerson);
+        if (!targetKey.equals(editedKey) && positions.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        final Person person = new Person(editedPerson);
+        positions.remove(targetKey);
+        positions.put(editedKey, index);
+        removeFromIndexes(internalList.set(index, person));
+        addToIndexes(person);
     }
 
     /**
@@ -77,31 +166,137 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer index = positions.remove(new PersonKey(toRemove));
+        if (index == null) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        removeFromIndexes(internalList.remove((int) index));
+        reindexFrom(index);
+        return true;
     }
 
     public void setPersons(UniquePersonList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
+        this.nameIndex.setAll(replacement.nameIndex);
+        this.namePrefixTrie.setAll(replacement.namePrefixTrie);
+        this.tagIndex.setAll(replacement.tagIndex);
     }
 
+    /**
+     * Replaces the persons in the list with copies of {@code persons}, made by {@link #add(ReadOnlyPerson)}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains equivalent persons.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
         final UniquePersonList replacement = new UniquePersonList();
         for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+            replacement.add(person);
         }
         setPersons(replacement);
     }
 
     /**
      * Sorts all persons in the list according to lexicographical order.
+     * The persons are sorted in a copy of the list, so the list is left unchanged if the sort is cancelled.
+     * The list is then rearranged in a single permutation change.
+     *
+     * @throws CancellationException if the current thread is interrupted while sorting.
      */
     public void sort() {
-        internalList.sort((person1, person2) -> (
-                person1.getName().toString().compareToIgnoreCase(person2.getName().toString())));
+        final List<Person> sorted = new ArrayList<>(internalList);
+        final int[] comparisonCount = {0};
+        sorted.sort((person1, person2) -> {
+            if (++comparisonCount[0] % CANCELLATION_CHECK_INTERVAL == 0) {
+                checkNotInterrupted();
+            }
+            return person1.getName().toString().compareToIgnoreCase(person2.getName().toString());
+        });
+        rearrange(sorted);
+    }
+
+    /**
+     * Rearranges the persons in the list to follow the order of {@code order}.
+     * {@code order} must contain exactly the persons in this list, e.g. the list contents before a {@link #sort()}.
+     *
+     * The list is rearranged in a single permutation change.
+     *
+     * @throws IllegalArgumentException if {@code order} is not a permutation of the persons in this list.
+     */
+    public void reorder(List<? extends ReadOnlyPerson> order) {
+        requireNonNull(order);
+        checkArgument(order.size() == internalList.size(), "Order must contain every person in the list");
+
+        final List<Person> reordered = new ArrayList<>(order.size());
+        for (ReadOnlyPerson person : order) {
+            Integer index = positions.get(new PersonKey(person));
+            checkArgument(index != null, "Order must only contain persons in the list");
+            reordered.add(internalList.get(index));
+        }
+        rearrange(reordered);
+    }
+
+    /**
+     * Rearranges the persons in the list to the order of {@code reordered}, which holds the same persons, and records
+     * their new positions. Listeners of the list are notified of a permutation rather than of every person being
+     * replaced, so that views of the list, such as filtered lists, can rearrange what they hold without examining
+     * every person again.
+     */
+    private void rearrange(List<Person> reordered) {
+        final Map<Person, Integer> newPositions = new IdentityHashMap<>();
+        for (int i = 0; i < reordered.size(); i++) {
+            newPositions.put(reordered.get(i), i);
+            positions.put(new PersonKey(reordered.get(i)), i);
+        }
+        FXCollections.sort(internalList, Comparator.comparing(newPositions::get));
+    }
+
+    /**
+     * Updates the recorded positions of all persons from {@code startIndex} onwards
+     * to match their current positions in the backing list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            positions.put(new PersonKey(internalList.get(i)), i);
+        }
+    }
+
+    private void addToIndexes(Person person) {
+        nameIndex.add(person);
+        namePrefixTrie.add(person);
+        tagIndex.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        nameIndex.remove(person);
+        namePrefixTrie.remove(person);
+        tagIndex.remove(person);
+    }
+
+    /**
+     * Returns the persons in the list with a name word starting with {@code prefix}, ignoring case.
+     * The returned set compares persons by identity, and holds the same objects as {@link #asObservableList()}.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithNameWordStartingWith(String prefix) {
+        return namePrefixTrie.getPersonsWithWordStartingWith(prefix);
+    }
+
+    /**
+     * Returns the persons in the list tagged with every one of {@code tagNames}, ignoring case.
+     * The returned set compares persons by identity, and holds the same objects as {@link #asObservableList()}.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithAllTags(Collection<String> tagNames) {
+        return tagIndex.getPersonsWithAllTags(tagNames);
+    }
+
+    /**
+     * Returns the persons in the list matching {@code query}, found through a {@link PersonQueryPlan}.
+     * The returned set compares persons by identity, and holds the same objects as {@link #asObservableList()}.
+     */
+    public Set<ReadOnlyPerson> getPersonsMatching(PersonQuery query) {
+        return new PersonQueryPlan(query, internalList.size(), nameIndex, namePrefixTrie, tagIndex)
+                .execute(internalList);
     }
 
     /**
@@ -127,4 +322,44 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Hashable snapshot of the identity fields used by {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)}.
+     */
+    private static class PersonKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final int hash;
+
+        PersonKey(ReadOnlyPerson person) {
+            name = person.getName();
+            phone = person.getPhone();
+            email = person.getEmail();
+            address = person.getAddress();
+            hash = Objects.hash(name, phone, email, address);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PersonKey)) {
+                return false;
+            }
+            PersonKey key = (PersonKey) other;
+            return hash == key.hash
+                    && name.equals(key.name)
+                    && phone.equals(key.phone)
+                    && email.equals(key.email)
+                    && address.equals(key.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
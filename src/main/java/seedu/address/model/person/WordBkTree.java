@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of distinct words, which finds the words within a given edit distance of a word while comparing it with
+ * only a small part of the words in the tree.
+ *
+ * Each child of a node is keyed by its edit distance from the node, so by the triangle inequality only the children
+ * keyed within {@code maxDistance} of the searched word's distance from the node can hold matches.
+ */
+class WordBkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree if it is not in the tree yet.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree within {@code maxDistance} edits of {@code word}.
+     */
+    public List<String> getWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        final List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            node.children.forEach((childDistance, child) -> {
+                if (Math.abs(childDistance - distance) <= maxDistance) {
+                    toVisit.push(child);
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their edit distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -92,6 +92,14 @@ public class UniqueTagList implements Iterable<Tag> {
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
+    /**
+     * Removes the equivalent tags of {@code toRemove} from the list, ignoring tags that are not in the list.
+     */
+    public void removeTags(Set<Tag> toRemove) {
+        requireAllNonNull(toRemove);
+        internalList.removeAll(toRemove);
+    }
+
     @Override
     public Iterator<Tag> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
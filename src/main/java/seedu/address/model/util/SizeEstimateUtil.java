@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains utility methods for estimating the heap space retained by model objects.
+ * The estimates are rough upper bounds for a 64-bit JVM and are only meant for budgeting, not accounting.
+ */
+public class SizeEstimateUtil {
+
+    /** Bytes taken by a reference to another object. */
+    public static final long REFERENCE_SIZE = 8;
+
+    /** Bytes taken by a {@code Person}, its property wrappers and its tag list, excluding the field strings. */
+    private static final long PERSON_OVERHEAD = 400;
+    /** Bytes taken by a {@code String} and its backing array, excluding the characters. */
+    private static final long STRING_OVERHEAD = 40;
+    /** Bytes taken by a {@code Tag}, excluding its name. */
+    private static final long TAG_OVERHEAD = 16;
+
+    /**
+     * Returns the estimated size of {@code value}.
+     */
+    public static long estimateSize(String value) {
+        requireNonNull(value);
+        return STRING_OVERHEAD + 2L * value.length();
+    }
+
+    /**
+     * Returns the estimated size of {@code tag}.
+     */
+    public static long estimateSize(Tag tag) {
+        requireNonNull(tag);
+        return TAG_OVERHEAD + estimateSize(tag.tagName);
+    }
+
+    /**
+     * Returns the estimated size of {@code person}.
+     * Tags are counted as references only, as they are shared with the master tag list of the address book.
+     */
+    public static long estimateSize(ReadOnlyPerson person) {
+        requireNonNull(person);
+        return PERSON_OVERHEAD
+                + estimateSize(person.getName().fullName)
+                + estimateSize(person.getPhone().value)
+                + estimateSize(person.getEmail().value)
+                + estimateSize(person.getAddress().value)
+                + REFERENCE_SIZE * person.getTags().size();
+    }
+
+    /**
+     * Returns the estimated size of a copy of {@code addressBook}.
+     */
+    public static long estimateSize(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long size = 0;
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            size += REFERENCE_SIZE + estimateSize(person);
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            size += REFERENCE_SIZE + estimateSize(tag);
+        }
+        return size;
+    }
+}
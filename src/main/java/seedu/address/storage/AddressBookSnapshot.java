@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable copy of the persons and tags of an address book at the time it was taken.
+ * Persons and tags are shared with the original address book rather than copied, as the model replaces them
+ * instead of modifying them once they are in the address book.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        this(addressBook.getPersonList(), addressBook.getTagList());
+    }
+
+    public AddressBookSnapshot(List<? extends ReadOnlyPerson> persons, List<Tag> tags) {
+        requireNonNull(persons);
+        requireNonNull(tags);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tags));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+}
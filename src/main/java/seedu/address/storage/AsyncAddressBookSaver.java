@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ *
+ * Bursts of save requests are coalesced into a single save of the most recently submitted address book. The save
+ * happens once no new request has arrived for the debounce delay, or once the oldest unsaved request has waited
+ * for the maximum latency, whichever comes first.
+ */
+public class AsyncAddressBookSaver {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 2000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Consumer<IOException> failureHandler;
+    private final long debounceMillis;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService executor;
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private long pendingSinceNanos;
+    private ScheduledFuture<?> scheduledSave;
+
+    public AsyncAddressBookSaver(AddressBookStorage addressBookStorage, Consumer<IOException> failureHandler) {
+        this(addressBookStorage, failureHandler, DEFAULT_DEBOUNCE_MILLIS, DEFAULT_MAX_LATENCY_MILLIS);
+    }
+
+    /**
+     * Constructs a saver which writes to {@code addressBookStorage} and passes any exception thrown while saving
+     * to {@code failureHandler}, on the background thread.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage addressBookStorage, Consumer<IOException> failureHandler,
+                                 long debounceMillis, long maxLatencyMillis) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        checkArgument(debounceMillis >= 0, "Debounce delay cannot be negative");
+        checkArgument(maxLatencyMillis >= debounceMillis, "Maximum latency cannot be less than the debounce delay");
+        this.addressBookStorage = addressBookStorage;
+        this.failureHandler = failureHandler;
+        this.debounceMillis = debounceMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be saved.
+     * {@code addressBook} must not be modified after it is submitted.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long now = System.nanoTime();
+        if (pendingAddressBook == null) {
+            pendingSinceNanos = now;
+        }
+        pendingAddressBook = addressBook;
+
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        long latencyLeftMillis = maxLatencyMillis - TimeUnit.NANOSECONDS.toMillis(now - pendingSinceNanos);
+        long delayMillis = Math.max(0, Math.min(debounceMillis, latencyLeftMillis));
+        scheduledSave = executor.schedule(this::savePendingAddressBook, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, and returns only after all submitted address books
+     * have been saved.
+     */
+    public void flush() {
+        Future<?> save;
+        synchronized (this) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            save = executor.submit(this::savePendingAddressBook);
+        }
+
+        try {
+            save.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while saving address book " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any. Only called on the background thread.
+     */
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook toSave;
+        synchronized (this) {
+            toSave = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (toSave == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(toSave);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
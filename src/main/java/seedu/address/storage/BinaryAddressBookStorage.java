@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * The file can be read through a memory mapping instead of a buffered stream, see {@link MappedFileInputStream}.
+ * Xml files are also read, so that an existing address book is converted to the binary format when it is next saved.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private String filePath;
+    private boolean isMemoryMapped;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this(filePath, false);
+    }
+
+    public BinaryAddressBookStorage(String filePath, boolean isMemoryMapped) {
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        if (!BinaryFileStorage.isBinaryFile(addressBookFile)) {
+            logger.info("AddressBook file " + addressBookFile + " is not binary, reading it as xml");
+            return Optional.of(XmlStreamFileStorage.loadDataFromSaveFile(addressBookFile));
+        }
+        if (isMemoryMapped) {
+            try (InputStream in = new MappedFileInputStream(addressBookFile)) {
+                return Optional.of(BinaryFileStorage.loadDataFromStream(in));
+            }
+        }
+        return Optional.of(BinaryFileStorage.loadDataFromSaveFile(addressBookFile));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        BinaryFileStorage.saveDataToFile(file, addressBook);
+    }
+
+}
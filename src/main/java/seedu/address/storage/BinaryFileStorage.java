@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in a compact binary file.
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by a table of the strings that are likely
+ * to be repeated across persons, i.e. tag names and the words of addresses. Each person is then stored as a
+ * length-prefixed record which refers to those strings by their position in the table, followed by the master tag
+ * list. All counts, lengths and positions are stored as variable-length integers.
+ *
+ * Readers skip any bytes at the end of a record that they do not understand, so later versions can add fields to
+ * a record without changing the format version.
+ */
+public class BinaryFileStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    /** The bytes that every binary address book file starts with. */
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+
+    private static final String ADDRESS_WORD_SEPARATOR = " ";
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            saveDataToStream(out, addressBook);
+        }
+    }
+
+    /**
+     * Writes the given addressbook data to {@code out}, which is left open.
+     */
+    public static void saveDataToStream(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(out);
+        requireNonNull(addressBook);
+
+        final Map<String, Integer> stringTable = buildStringTable(addressBook);
+        final DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        writeVarInt(data, FORMAT_VERSION);
+
+        writeVarInt(data, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(data, string);
+        }
+
+        writeVarInt(data, addressBook.getPersonList().size());
+        final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        final DataOutputStream record = new DataOutputStream(recordBytes);
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(record, person, stringTable);
+            writeVarInt(data, recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+
+        writeVarInt(data, addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            writeVarInt(data, stringTable.get(tag.tagName));
+        }
+        data.flush();
+    }
+
+    /**
+     * Returns address book in the file.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static ReadOnlyAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
+                                                                            FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return loadDataFromStream(in);
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns address book read from {@code in}, which is left open.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public static ReadOnlyAddressBook loadDataFromStream(InputStream in) throws DataConversionException {
+        requireNonNull(in);
+
+        try {
+            final DataInputStream data = new DataInputStream(in);
+            final byte[] magic = new byte[MAGIC.length];
+            data.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IllegalValueException("Not a binary address book file");
+            }
+            final int version = readVarInt(data);
+            if (version > FORMAT_VERSION) {
+                throw new IllegalValueException("Unsupported binary address book format version " + version);
+            }
+
+            final List<String> strings = new ArrayList<>();
+            final List<Tag> tagsByString = new ArrayList<>();
+            final int stringCount = readVarInt(data);
+            for (int i = 0; i < stringCount; i++) {
+                strings.add(readString(data));
+                tagsByString.add(null);
+            }
+
+            final List<ReadOnlyPerson> persons = new ArrayList<>();
+            final int personCount = readVarInt(data);
+            for (int i = 0; i < personCount; i++) {
+                final byte[] record = new byte[readVarInt(data)];
+                data.readFully(record);
+                persons.add(readPerson(new DataInputStream(new ByteArrayInputStream(record)), strings,
+                        tagsByString));
+            }
+
+            final List<Tag> tags = new ArrayList<>();
+            final int tagCount = readVarInt(data);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(getTag(readVarInt(data), strings, tagsByString));
+            }
+            return new AddressBookSnapshot(persons, tags);
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns true if {@code file} starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryFile(File file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = new FileInputStream(file)) {
+            final byte[] magic = new byte[MAGIC.length];
+            return new DataInputStream(in).read(magic) == MAGIC.length && Arrays.equals(MAGIC, magic);
+        }
+    }
+
+    /**
+     * Converts the xml address book file {@code xmlFile} into the binary address book file {@code binaryFile}.
+     */
+    public static void convertFromXml(File xmlFile, File binaryFile) throws DataConversionException, IOException {
+        final ReadOnlyAddressBook addressBook = XmlStreamFileStorage.loadDataFromSaveFile(xmlFile);
+        FileUtil.createIfMissing(binaryFile);
+        saveDataToFile(binaryFile, addressBook);
+    }
+
+    /**
+     * Converts the binary address book file {@code binaryFile} into the xml address book file {@code xmlFile}.
+     */
+    public static void convertToXml(File binaryFile, File xmlFile) throws DataConversionException, IOException {
+        final ReadOnlyAddressBook addressBook = loadDataFromSaveFile(binaryFile);
+        FileUtil.createIfMissing(xmlFile);
+        XmlStreamFileStorage.saveDataToFile(xmlFile, addressBook);
+    }
+
+    /**
+     * Returns the position of each tag name and address word of {@code addressBook} in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(ReadOnlyAddressBook addressBook) {
+        final Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            for (String word : person.getAddress().value.split(ADDRESS_WORD_SEPARATOR, -1)) {
+                stringTable.putIfAbsent(word, stringTable.size());
+            }
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            stringTable.putIfAbsent(tag.tagName, stringTable.size());
+        }
+        return stringTable;
+    }
+
+    /**
+     * Writes the fields of {@code person}, referring to its address words and tags by their position in
+     * {@code stringTable}.
+     */
+    private static void writePerson(DataOutputStream record, ReadOnlyPerson person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getPhone().value);
+        writeString(record, person.getEmail().value);
+
+        final String[] addressWords = person.getAddress().value.split(ADDRESS_WORD_SEPARATOR, -1);
+        writeVarInt(record, addressWords.length);
+        for (String word : addressWords) {
+            writeVarInt(record, stringTable.get(word));
+        }
+
+        writeVarInt(record, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(record, stringTable.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutputStream, ReadOnlyPerson, Map)}.
+     * Persons with the same tag share one {@code Tag} object, which is kept in {@code tagsByString}.
+     */
+    private static Person readPerson(DataInputStream record, List<String> strings, List<Tag> tagsByString)
+            throws IOException, IllegalValueException {
+        final Name name = new Name(readString(record));
+        final Phone phone = new Phone(readString(record));
+        final Email email = new Email(readString(record));
+
+        final StringBuilder address = new StringBuilder();
+        final int addressWordCount = readVarInt(record);
+        for (int i = 0; i < addressWordCount; i++) {
+            if (i > 0) {
+                address.append(ADDRESS_WORD_SEPARATOR);
+            }
+            address.append(getString(readVarInt(record), strings));
+        }
+
+        final Set<Tag> tags = new HashSet<>();
+        final int tagCount = readVarInt(record);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(getTag(readVarInt(record), strings, tagsByString));
+        }
+        return new Person(name, phone, email, new Address(address.toString()), tags);
+    }
+
+    private static String getString(int position, List<String> strings) throws IllegalValueException {
+        if (position < 0 || position >= strings.size()) {
+            throw new IllegalValueException("String table has no entry " + position);
+        }
+        return strings.get(position);
+    }
+
+    /**
+     * Returns the tag named by entry {@code position} of the string table, creating it on first use.
+     */
+    private static Tag getTag(int position, List<String> strings, List<Tag> tagsByString)
+            throws IllegalValueException {
+        final String tagName = getString(position, strings);
+        Tag tag = tagsByString.get(position);
+        if (tag == null) {
+            tag = new Tag(tagName);
+            tagsByString.set(position, tag);
+        }
+        return tag;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in groups of 7 bits, least significant first, with the highest bit of
+     * each byte set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative variable-length integer");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads persons from comma-separated values, one person per record, quoted as in RFC 4180: a field containing
+ * commas, quotes or line breaks is enclosed in double quotes, and a quote inside it is written twice.
+ *
+ * The fields of a record are the name, phone, email, address and tags of the person, in that order, unless the
+ * first record is a header naming the column of each field in any order. Columns that the header does not name are
+ * ignored. Tags are separated by {@link #TAG_SEPARATOR}. Line breaks in quoted fields are read as spaces, and blank
+ * lines are skipped.
+ */
+class CsvPersonRecordReader extends PersonRecordReader {
+
+    static final String NAME_COLUMN = "name";
+    static final String PHONE_COLUMN = "phone";
+    static final String EMAIL_COLUMN = "email";
+    static final String ADDRESS_COLUMN = "address";
+    static final String TAGS_COLUMN = "tags";
+    static final String TAG_SEPARATOR = ";";
+
+    static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not closed";
+    static final String MESSAGE_TOO_MANY_FIELDS =
+            "Expected at most %1$d fields but found %2$d, so a field containing commas may not be quoted";
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final List<String> DEFAULT_COLUMNS =
+            Arrays.asList(NAME_COLUMN, PHONE_COLUMN, EMAIL_COLUMN, ADDRESS_COLUMN, TAGS_COLUMN);
+
+    private List<String> columns = null;
+
+    CsvPersonRecordReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        String line = readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        final int startLineNumber = getLineNumber();
+        final List<String> fields = new ArrayList<>();
+        if (!splitRecord(line, fields)) {
+            return PersonRecord.malformed(startLineNumber, MESSAGE_UNTERMINATED_QUOTE);
+        }
+
+        if (columns == null) {
+            if (isHeader(fields)) {
+                columns = new ArrayList<>();
+                fields.forEach(field -> columns.add(field.trim().toLowerCase(Locale.ROOT)));
+                return read();
+            }
+            columns = DEFAULT_COLUMNS;
+        }
+        if (fields.size() > columns.size()) {
+            return PersonRecord.malformed(startLineNumber,
+                    String.format(MESSAGE_TOO_MANY_FIELDS, columns.size(), fields.size()));
+        }
+        return new PersonRecord(startLineNumber, getField(fields, NAME_COLUMN), getField(fields, PHONE_COLUMN),
+                getField(fields, EMAIL_COLUMN), getField(fields, ADDRESS_COLUMN), getTags(fields));
+    }
+
+    /**
+     * Splits the record starting with {@code line} into {@code fields}, reading further lines while a quoted field
+     * spans them.
+     *
+     * @return false if the input ends inside a quoted field.
+     */
+    private boolean splitRecord(String line, List<String> fields) throws IOException {
+        final StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        String remaining = line;
+        int i = 0;
+        while (true) {
+            if (i == remaining.length()) {
+                if (!isQuoted) {
+                    fields.add(field.toString());
+                    return true;
+                }
+                remaining = readLine();
+                if (remaining == null) {
+                    return false;
+                }
+                // no field of a person can span lines
+                field.append(' ');
+                i = 0;
+                continue;
+            }
+
+            final char c = remaining.charAt(i++);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i < remaining.length() && remaining.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code fields} are a header, i.e. if they name the name column.
+     */
+    private static boolean isHeader(List<String> fields) {
+        return fields.stream().anyMatch(field -> field.trim().equalsIgnoreCase(NAME_COLUMN));
+    }
+
+    /**
+     * Returns the field of {@code fields} in {@code column}, or null if there is no such field.
+     */
+    private String getField(List<String> fields, String column) {
+        final int index = columns.indexOf(column);
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    /**
+     * Returns the tags in the tags field of {@code fields}, without empty ones.
+     */
+    private List<String> getTags(List<String> fields) {
+        final String tags = getField(fields, TAGS_COLUMN);
+        if (tags == null) {
+            return Collections.emptyList();
+        }
+        final List<String> tagNames = new ArrayList<>();
+        for (String tagName : tags.split(TAG_SEPARATOR)) {
+            if (!tagName.trim().isEmpty()) {
+                tagNames.add(tagName);
+            }
+        }
+        return tagNames;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Writes persons as comma-separated values in the format read by {@link CsvPersonRecordReader}: a header naming the
+ * columns, then one person per line. Fields containing commas, quotes or line breaks are quoted as in RFC 4180.
+ */
+class CsvPersonRecordWriter extends PersonRecordWriter {
+
+    private static final String HEADER = String.join(",", CsvPersonRecordReader.NAME_COLUMN,
+            CsvPersonRecordReader.PHONE_COLUMN, CsvPersonRecordReader.EMAIL_COLUMN,
+            CsvPersonRecordReader.ADDRESS_COLUMN, CsvPersonRecordReader.TAGS_COLUMN);
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+
+    CsvPersonRecordWriter(Writer writer) throws IOException {
+        super(writer);
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(ReadOnlyPerson person) throws IOException {
+        writeField(person.getName().fullName);
+        writer.write(SEPARATOR);
+        writeField(person.getPhone().value);
+        writer.write(SEPARATOR);
+        writeField(person.getEmail().value);
+        writer.write(SEPARATOR);
+        writeField(person.getAddress().value);
+        writer.write(SEPARATOR);
+        writeField(String.join(CsvPersonRecordReader.TAG_SEPARATOR, getSortedTagNames(person)));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes {@code field}, quoted if it contains a separator, a quote or a line break.
+     */
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        // in runs up to and including each quote, which is then doubled
+        int runStart = 0;
+        for (int i = field.indexOf(QUOTE); i >= 0; i = field.indexOf(QUOTE, i + 1)) {
+            writer.write(field, runStart, i + 1 - runStart);
+            writer.write(QUOTE);
+            runStart = i + 1;
+        }
+        writer.write(field, runStart, field.length() - runStart);
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving appends the differences between the given address book and the last saved one to the journal, so its
+ * cost depends on the size of the change rather than the size of the address book. Reading replays the journal
+ * on top of the snapshot. Once the journal grows beyond the compaction threshold, a new snapshot is written in
+ * the background and a new journal is started.
+ *
+ * The files at a location must only be accessed through one instance of this class at a time.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    /** Suffix of the journal of changes made since the snapshot was written. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    /** Suffix of the journal that is being compacted into a new snapshot. */
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    /** Suffix of the new snapshot while it is being written. */
+    public static final String COMPACTED_SNAPSHOT_FILE_SUFFIX = ".compacted";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final String filePath;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactionExecutor;
+
+    /**
+     * The persons and tags recorded by the files at {@code filePath}, or null if they are not known, in which case
+     * the next save writes a new snapshot. These lists are never modified once assigned.
+     * After a save, they hold the person objects of the address book saved, although the journal entries only depend
+     * on the details of the persons.
+     */
+    private List<ReadOnlyPerson> savedPersons;
+    private List<Tag> savedTags;
+    private Future<?> compaction;
+
+    public JournalAddressBookStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    public JournalAddressBookStorage(String filePath, long compactionThresholdBytes) {
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook journal compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the snapshot. The journals are located next to it. Cannot be null
+     * @throws DataConversionException if the snapshot or a journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+        final boolean isOwnFile = filePath.equals(this.filePath);
+
+        synchronized (this) {
+            if (!isOwnFile || compaction == null) {
+                recoverInterruptedCompaction(filePath);
+            }
+            final File snapshotFile = new File(filePath);
+            final File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+            final File compactingJournalFile = new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX);
+
+            if (!snapshotFile.exists() && !journalFile.exists() && !compactingJournalFile.exists()) {
+                logger.info("AddressBook file " + snapshotFile + " not found");
+                return Optional.empty();
+            }
+
+            final List<ReadOnlyPerson> persons = new ArrayList<>();
+            final List<Tag> tags = new ArrayList<>();
+            if (snapshotFile.exists()) {
+                ReadOnlyAddressBook snapshot = XmlStreamFileStorage.loadDataFromSaveFile(snapshotFile);
+                persons.addAll(snapshot.getPersonList());
+                tags.addAll(snapshot.getTagList());
+            }
+            final boolean isCompactingJournalComplete = replayJournal(compactingJournalFile, persons, tags);
+            final boolean isJournalComplete = replayJournal(journalFile, persons, tags);
+
+            if (isOwnFile) {
+                // after a crash, start again from a fresh snapshot rather than appending to the damaged files
+                final boolean isClean = !compactingJournalFile.exists() && isCompactingJournalComplete
+                        && isJournalComplete;
+                savedPersons = isClean ? new ArrayList<>(persons) : null;
+                savedTags = isClean ? new ArrayList<>(tags) : null;
+            }
+            return Optional.of(new AddressBookSnapshot(persons, tags));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Saving to a location other than {@link #getAddressBookFilePath()} always writes a full snapshot.
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        final List<ReadOnlyPerson> persons = new ArrayList<>(addressBook.getPersonList());
+        final List<Tag> tags = new ArrayList<>(addressBook.getTagList());
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(persons, tags, new File(filePath));
+            deleteJournals(filePath);
+            return;
+        }
+
+        synchronized (this) {
+            if (savedPersons == null) {
+                writeSnapshot(persons, tags, new File(filePath));
+                Files.deleteIfExists(new File(filePath + JOURNAL_FILE_SUFFIX).toPath());
+                Files.deleteIfExists(new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).toPath());
+                if (compaction == null) {
+                    // otherwise, the compaction in progress discards its snapshot by itself
+                    Files.deleteIfExists(new File(filePath + COMPACTED_SNAPSHOT_FILE_SUFFIX).toPath());
+                }
+            } else {
+                appendToJournal(JournalEntry.changesBetween(savedPersons, savedTags, persons, tags));
+            }
+            savedPersons = persons;
+            savedTags = tags;
+
+            if (new File(filePath + JOURNAL_FILE_SUFFIX).length() > compactionThresholdBytes && compaction == null) {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one entry per line.
+     */
+    private void appendToJournal(List<JournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(JsonUtil.toSingleLineJsonString(entry)).append('\n');
+        }
+
+        final File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+        FileUtil.createIfMissing(journalFile);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(journalFile, true), StandardCharsets.UTF_8)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    /**
+     * Replays the entries in {@code journalFile}, if it exists, on {@code persons} and {@code tags}.
+     * Returns false if the last entry was only partially written, in which case it is ignored.
+     *
+     * @throws DataConversionException if any other entry cannot be read or applied.
+     */
+    private static boolean replayJournal(File journalFile, List<ReadOnlyPerson> persons, List<Tag> tags)
+            throws DataConversionException, IOException {
+        if (!journalFile.exists()) {
+            return true;
+        }
+
+        final List<String> lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).trim().isEmpty()) {
+                continue;
+            }
+
+            final JournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring partially written last entry of journal " + journalFile + ": " + ioe);
+                    return false;
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            try {
+                entry.applyTo(persons, tags);
+            } catch (IllegalValueException ive) {
+                throw new DataConversionException(ive);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the journal aside and starts compacting it, together with the snapshot, into a new snapshot.
+     */
+    private void startCompaction() throws IOException {
+        final File compactingJournalFile = new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX);
+        if (compactingJournalFile.exists()) {
+            // an earlier compaction failed; the next read starts again from a fresh snapshot
+            return;
+        }
+        Files.move(new File(filePath + JOURNAL_FILE_SUFFIX).toPath(), compactingJournalFile.toPath());
+
+        final List<ReadOnlyPerson> persons = savedPersons;
+        final List<Tag> tags = savedTags;
+        compaction = compactionExecutor.submit(() -> compact(persons, tags));
+    }
+
+    /**
+     * Writes {@code persons} and {@code tags}, which are recorded by the snapshot and the compacting journal,
+     * into a new snapshot which replaces both of them. Only called on the compaction thread.
+     *
+     * The compacting journal is deleted before the new snapshot is moved into place, so that if the app stops
+     * in between, {@link #recoverInterruptedCompaction(String)} knows that the new snapshot is complete.
+     */
+    private void compact(List<ReadOnlyPerson> persons, List<Tag> tags) {
+        final File compactedSnapshotFile = new File(filePath + COMPACTED_SNAPSHOT_FILE_SUFFIX);
+        try {
+            writeSnapshot(persons, tags, compactedSnapshotFile);
+            synchronized (this) {
+                if (!Files.deleteIfExists(new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).toPath())) {
+                    // a full snapshot has been saved since the compaction started
+                    Files.delete(compactedSnapshotFile.toPath());
+                    return;
+                }
+                Files.move(compactedSnapshotFile.toPath(), new File(filePath).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.fine("Compacted journal of " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + e);
+        } finally {
+            synchronized (this) {
+                compaction = null;
+            }
+        }
+    }
+
+    /**
+     * Finishes or discards the new snapshot of a compaction of the files at {@code filePath} that was interrupted.
+     */
+    private static void recoverInterruptedCompaction(String filePath) throws IOException {
+        final File compactedSnapshotFile = new File(filePath + COMPACTED_SNAPSHOT_FILE_SUFFIX);
+        if (!compactedSnapshotFile.exists()) {
+            return;
+        }
+
+        if (new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).exists()) {
+            // the new snapshot may be incomplete, but the old snapshot and journals are still intact
+            logger.info("Discarding incomplete snapshot " + compactedSnapshotFile);
+            Files.delete(compactedSnapshotFile.toPath());
+        } else {
+            logger.info("Completing compaction into " + compactedSnapshotFile);
+            Files.move(compactedSnapshotFile.toPath(), new File(filePath).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeSnapshot(List<ReadOnlyPerson> persons, List<Tag> tags, File file) throws IOException {
+        FileUtil.createIfMissing(file);
+        XmlStreamFileStorage.saveDataToFile(file, new AddressBookSnapshot(persons, tags));
+    }
+
+    private static void deleteJournals(String filePath) throws IOException {
+        Files.deleteIfExists(new File(filePath + JOURNAL_FILE_SUFFIX).toPath());
+        Files.deleteIfExists(new File(filePath + COMPACTING_JOURNAL_FILE_SUFFIX).toPath());
+        Files.deleteIfExists(new File(filePath + COMPACTED_SNAPSHOT_FILE_SUFFIX).toPath());
+    }
+}
@@ -0,0 +1,348 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A Jackson-friendly record of a single change to an address book, as stored in the journal of a
+ * {@link JournalAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JournalEntry {
+
+    /**
+     * The kinds of changes that can be recorded.
+     */
+    public enum Type { ADD, EDIT, DELETE, SORT, CLEAR, TAGS }
+
+    private static final int NO_MATCH = -1;
+
+    private Type type;
+    private int index;
+    private int count;
+    private List<XmlAdaptedPerson> persons;
+    private int[] order;
+    private List<XmlAdaptedTag> tags;
+
+    /**
+     * Constructs a JournalEntry.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    public JournalEntry() {}
+
+    private JournalEntry(Type type) {
+        this.type = type;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns an entry which inserts {@code added} into the person list, starting at {@code index}.
+     */
+    public static JournalEntry add(int index, List<? extends ReadOnlyPerson> added) {
+        JournalEntry entry = new JournalEntry(Type.ADD);
+        entry.index = index;
+        entry.persons = toAdaptedPersons(added);
+        return entry;
+    }
+
+    /**
+     * Returns an entry which replaces the persons in the person list starting at {@code index} with {@code edited}.
+     */
+    public static JournalEntry edit(int index, List<? extends ReadOnlyPerson> edited) {
+        JournalEntry entry = new JournalEntry(Type.EDIT);
+        entry.index = index;
+        entry.persons = toAdaptedPersons(edited);
+        return entry;
+    }
+
+    /**
+     * Returns an entry which removes {@code count} persons from the person list, starting at {@code index}.
+     */
+    public static JournalEntry delete(int index, int count) {
+        JournalEntry entry = new JournalEntry(Type.DELETE);
+        entry.index = index;
+        entry.count = count;
+        return entry;
+    }
+
+    /**
+     * Returns an entry which reorders the persons in the person list starting at {@code index}, such that the
+     * {@code i}-th of them is the person previously at {@code index + order[i]}.
+     */
+    public static JournalEntry sort(int index, int[] order) {
+        JournalEntry entry = new JournalEntry(Type.SORT);
+        entry.index = index;
+        entry.order = order.clone();
+        return entry;
+    }
+
+    /**
+     * Returns an entry which removes all persons from the person list.
+     */
+    public static JournalEntry clear() {
+        return new JournalEntry(Type.CLEAR);
+    }
+
+    /**
+     * Returns an entry which replaces the master tag list with {@code newTags}.
+     */
+    public static JournalEntry tags(List<Tag> newTags) {
+        JournalEntry entry = new JournalEntry(Type.TAGS);
+        entry.tags = newTags.stream().map(XmlAdaptedTag::new).collect(Collectors.toList());
+        return entry;
+    }
+
+    /**
+     * Returns the entries which change an address book with {@code oldPersons} and {@code oldTags} into one with
+     * {@code newPersons} and {@code newTags}. Only the persons which differ between the person lists are recorded, and
+     * a reordering of the same persons is recorded by their positions alone.
+     */
+    public static List<JournalEntry> changesBetween(List<? extends ReadOnlyPerson> oldPersons, List<Tag> oldTags,
+                                                    List<? extends ReadOnlyPerson> newPersons, List<Tag> newTags) {
+        requireNonNull(oldPersons);
+        requireNonNull(oldTags);
+        requireNonNull(newPersons);
+        requireNonNull(newTags);
+
+        final List<JournalEntry> changes = new ArrayList<>();
+        if (newPersons.isEmpty() && !oldPersons.isEmpty()) {
+            changes.add(clear());
+        } else {
+            addPersonChanges(changes, oldPersons, newPersons);
+        }
+        if (!oldTags.equals(newTags)) {
+            changes.add(tags(newTags));
+        }
+        return changes;
+    }
+
+    /**
+     * Adds to {@code changes} the entries which change {@code oldPersons} into {@code newPersons}.
+     */
+    private static void addPersonChanges(List<JournalEntry> changes, List<? extends ReadOnlyPerson> oldPersons,
+                                         List<? extends ReadOnlyPerson> newPersons) {
+        final int commonSize = Math.min(oldPersons.size(), newPersons.size());
+        int start = 0;
+        while (start < commonSize && isSamePerson(oldPersons.get(start), newPersons.get(start))) {
+            start++;
+        }
+        int unchangedAtEnd = 0;
+        while (unchangedAtEnd < commonSize - start
+                && isSamePerson(oldPersons.get(oldPersons.size() - 1 - unchangedAtEnd),
+                                newPersons.get(newPersons.size() - 1 - unchangedAtEnd))) {
+            unchangedAtEnd++;
+        }
+        final List<? extends ReadOnlyPerson> removed = oldPersons.subList(start, oldPersons.size() - unchangedAtEnd);
+        final List<? extends ReadOnlyPerson> added = newPersons.subList(start, newPersons.size() - unchangedAtEnd);
+        final int[] matches = findMatches(removed, added);
+
+        if (isPermutation(matches, removed.size())) {
+            changes.add(sort(start, matches));
+        } else if (isInOrder(matches)) {
+            addReplacementsAroundMatches(changes, start, removed, added, matches);
+        } else {
+            addReplacement(changes, start, removed.size(), added);
+        }
+    }
+
+    /**
+     * Adds to {@code changes} the entries which replace the {@code removed} persons at {@code start} with the
+     * {@code added} persons, keeping in place the persons that {@code matches} finds in both.
+     * The persons kept must be in the same order in both lists.
+     */
+    private static void addReplacementsAroundMatches(List<JournalEntry> changes, int start,
+                                                     List<? extends ReadOnlyPerson> removed,
+                                                     List<? extends ReadOnlyPerson> added, int[] matches) {
+        // the persons before added[addedStart] and removed[removedStart] have already been dealt with
+        int addedStart = 0;
+        int removedStart = 0;
+        for (int i = 0; i <= added.size(); i++) {
+            final int removedEnd = i < added.size() ? matches[i] : removed.size();
+            if (removedEnd == NO_MATCH) {
+                continue;
+            }
+            addReplacement(changes, start + addedStart, removedEnd - removedStart, added.subList(addedStart, i));
+            addedStart = i + 1;
+            removedStart = removedEnd + 1;
+        }
+    }
+
+    /**
+     * Adds to {@code changes} the entries which replace {@code removedCount} persons at {@code index} with
+     * {@code added}.
+     */
+    private static void addReplacement(List<JournalEntry> changes, int index, int removedCount,
+                                       List<? extends ReadOnlyPerson> added) {
+        final int editedCount = Math.min(removedCount, added.size());
+        if (editedCount > 0) {
+            changes.add(edit(index, added.subList(0, editedCount)));
+        }
+        if (removedCount > editedCount) {
+            changes.add(delete(index + editedCount, removedCount - editedCount));
+        }
+        if (added.size() > editedCount) {
+            changes.add(add(index + editedCount, added.subList(editedCount, added.size())));
+        }
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} have the same details, including their tags.
+     */
+    private static boolean isSamePerson(ReadOnlyPerson first, ReadOnlyPerson second) {
+        return first == second || (first.isSameStateAs(second) && first.getTags().equals(second.getTags()));
+    }
+
+    /**
+     * Returns, for each person in {@code newPersons}, the position in {@code oldPersons} of the person with the same
+     * details, including their tags, or {@link #NO_MATCH} if there is none.
+     * Persons are matched by their details rather than by identity, as the model holds its own copies of the persons
+     * read from storage, and replaces them with copies again when an address book is restored.
+     */
+    private static int[] findMatches(List<? extends ReadOnlyPerson> oldPersons,
+                                     List<? extends ReadOnlyPerson> newPersons) {
+        final Map<List<Object>, Integer> positions = new HashMap<>();
+        for (int i = 0; i < oldPersons.size(); i++) {
+            positions.putIfAbsent(getDetails(oldPersons.get(i)), i);
+        }
+        final int[] matches = new int[newPersons.size()];
+        for (int i = 0; i < newPersons.size(); i++) {
+            // each old person is matched at most once
+            Integer position = positions.remove(getDetails(newPersons.get(i)));
+            matches[i] = position == null ? NO_MATCH : position;
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the details of {@code person} compared by {@link #isSamePerson(ReadOnlyPerson, ReadOnlyPerson)}.
+     */
+    private static List<Object> getDetails(ReadOnlyPerson person) {
+        return Arrays.asList(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags());
+    }
+
+    /**
+     * Returns true if {@code matches} reorders all {@code oldSize} persons of a list, in which case it is in the form
+     * taken by {@link #sort(int, int[])}.
+     */
+    private static boolean isPermutation(int[] matches, int oldSize) {
+        return oldSize >= 2 && matches.length == oldSize
+                && Arrays.stream(matches).noneMatch(match -> match == NO_MATCH);
+    }
+
+    /**
+     * Returns true if the persons matched by {@code matches} are in the same order in both lists.
+     */
+    private static boolean isInOrder(int[] matches) {
+        int previous = NO_MATCH;
+        for (int match : matches) {
+            if (match == NO_MATCH) {
+                continue;
+            }
+            if (match < previous) {
+                return false;
+            }
+            previous = match;
+        }
+        return true;
+    }
+
+    private static List<XmlAdaptedPerson> toAdaptedPersons(List<? extends ReadOnlyPerson> persons) {
+        return persons.stream().map(XmlAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code personList} and {@code tagList}.
+     *
+     * @throws IllegalValueException if the entry is malformed, contains invalid data,
+     *     or does not fit {@code personList}.
+     */
+    public void applyTo(List<ReadOnlyPerson> personList, List<Tag> tagList) throws IllegalValueException {
+        requireNonNull(personList);
+        requireNonNull(tagList);
+        if (type == null) {
+            throw new IllegalValueException("Journal entry has no type");
+        }
+
+        switch (type) {
+        case ADD:
+            checkRange(index, 0, personList.size());
+            personList.addAll(index, toModelPersons());
+            break;
+        case EDIT:
+            List<ReadOnlyPerson> edited = toModelPersons();
+            checkRange(index, edited.size(), personList.size());
+            for (int i = 0; i < edited.size(); i++) {
+                personList.set(index + i, edited.get(i));
+            }
+            break;
+        case DELETE:
+            checkRange(index, count, personList.size());
+            personList.subList(index, index + count).clear();
+            break;
+        case SORT:
+            if (order == null) {
+                throw new IllegalValueException("Sort entry has no order");
+            }
+            checkRange(index, order.length, personList.size());
+            List<ReadOnlyPerson> unsorted = new ArrayList<>(personList.subList(index, index + order.length));
+            for (int i = 0; i < order.length; i++) {
+                checkRange(order[i], 1, unsorted.size());
+                personList.set(index + i, unsorted.get(order[i]));
+            }
+            break;
+        case CLEAR:
+            personList.clear();
+            break;
+        case TAGS:
+            tagList.clear();
+            for (XmlAdaptedTag tag : tags == null ? new ArrayList<XmlAdaptedTag>() : tags) {
+                tagList.add(tag.toModelType());
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown journal entry type " + type);
+        }
+    }
+
+    /**
+     * Converts the persons recorded by this entry into the model's Person objects.
+     *
+     * @throws IllegalValueException if this entry has no persons, or any of them violates a data constraint.
+     */
+    private List<ReadOnlyPerson> toModelPersons() throws IllegalValueException {
+        if (persons == null) {
+            throw new IllegalValueException(type + " entry has no persons");
+        }
+        List<ReadOnlyPerson> modelPersons = new ArrayList<>();
+        for (XmlAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless {@code [start, start + length)} lies within {@code [0, size)}.
+     */
+    private static void checkRange(int start, int length, int size) throws IllegalValueException {
+        if (start < 0 || length < 0 || start + length > size) {
+            throw new IllegalValueException("Journal entry does not fit the address book: "
+                    + "positions " + start + " to " + (start + length) + " of " + size);
+        }
+    }
+}
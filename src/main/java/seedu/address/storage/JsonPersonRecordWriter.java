@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Writes persons as a JSON array with one object per person, through a streaming generator so that the array is
+ * never held in memory. Each object has the string fields {@code name}, {@code phone}, {@code email} and
+ * {@code address}, and the array of strings {@code tags}.
+ */
+class JsonPersonRecordWriter extends PersonRecordWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    JsonPersonRecordWriter(Writer writer) throws IOException {
+        super(writer);
+        generator = JSON_FACTORY.createGenerator(writer);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void write(ReadOnlyPerson person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (String tagName : getSortedTagNames(person)) {
+            generator.writeString(tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Ends the array of persons, and closes the generator along with the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.writeEndArray();
+            generator.writeRaw('\n');
+        } finally {
+            generator.close();
+        }
+    }
+}
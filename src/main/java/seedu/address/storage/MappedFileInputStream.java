@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@code InputStream} which reads a file through a read-only memory mapping of the whole file.
+ *
+ * Bytes are copied straight from the mapped pages into the reader's buffer, so there is no intermediate stream
+ * buffer, and the operating system's page cache can serve the file again on later reads without copying it.
+ * The mapping is released when the stream is garbage collected, as it cannot be unmapped explicitly.
+ *
+ * On Windows, a file cannot be replaced or written to while it is mapped, so the file could not be saved until the
+ * mapping happens to be garbage collected. Memory mapping is therefore not supported there, see {@link #isSupported()}.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Returns true if files can be read through a memory mapping on this operating system without preventing them
+     * from being saved afterwards.
+     */
+    public static boolean isSupported() {
+        return !IS_WINDOWS;
+    }
+
+    /**
+     * Maps {@code file} into memory.
+     *
+     * @throws IOException if the file cannot be opened or is larger than the largest buffer that can be mapped.
+     */
+    public MappedFileInputStream(File file) throws IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be memory-mapped: " + file);
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        requireNonNull(bytes);
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        final int bytesRead = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, bytesRead);
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long count) {
+        final int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkNotInterrupted;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Exports persons to a file, writing them one at a time through a buffer so that the output is never held in
+ * memory as a whole.
+ *
+ * The persons are written to a temporary file next to the file, which then replaces it, so that an export which
+ * fails or is cancelled leaves any existing file as it was.
+ */
+public class PersonExporter {
+
+    /** The number of persons written between progress reports and checks for cancellation. */
+    static final int PROGRESS_INTERVAL = 10000;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes {@code persons} to {@code file} in {@code format}, encoded in UTF-8, replacing the file if it exists.
+     * {@code progressListener} is given the number of persons written so far after every
+     * {@link #PROGRESS_INTERVAL} persons.
+     *
+     * @throws IOException if the file cannot be written.
+     * @throws CancellationException if the current thread is interrupted while exporting, in which case the file is
+     *     left as it was.
+     */
+    public void exportPersons(List<? extends ReadOnlyPerson> persons, Path file, PersonFileFormat format,
+            IntConsumer progressListener) throws IOException {
+        requireAllNonNull(persons, file, format, progressListener);
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(),
+                TEMPORARY_FILE_SUFFIX);
+        boolean isWritten = false;
+        try {
+            // not through a channel, which is closed if the thread is interrupted, so that cancellation is not
+            // reported as a failure to write
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(temporaryFile.toFile()), StandardCharsets.UTF_8), BUFFER_SIZE);
+                    PersonRecordWriter recordWriter = PersonRecordWriter.open(writer, format)) {
+                writePersons(persons, recordWriter, progressListener);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code persons} with {@code recordWriter}, reporting progress to {@code progressListener}.
+     *
+     * @throws CancellationException if the current thread is interrupted while writing.
+     */
+    private void writePersons(List<? extends ReadOnlyPerson> persons, PersonRecordWriter recordWriter,
+            IntConsumer progressListener) throws IOException {
+        int writtenCount = 0;
+        for (ReadOnlyPerson person : persons) {
+            recordWriter.write(person);
+            if (++writtenCount % PROGRESS_INTERVAL == 0) {
+                checkNotInterrupted();
+                progressListener.accept(writtenCount);
+            }
+        }
+    }
+}
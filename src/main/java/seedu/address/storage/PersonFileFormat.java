@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The formats of the files that persons can be exported to, and imported from if {@link #isImportable()},
+ * recognised by the extensions of their file names.
+ */
+public enum PersonFileFormat {
+    CSV(true, "csv"),
+    VCARD(true, "vcf", "vcard"),
+    JSON(false, "json");
+
+    private final boolean isImportable;
+    private final List<String> extensions;
+
+    PersonFileFormat(boolean isImportable, String... extensions) {
+        this.isImportable = isImportable;
+        this.extensions = Collections.unmodifiableList(Arrays.asList(extensions));
+    }
+
+    public List<String> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     * Returns true if persons can be imported from files in this format.
+     */
+    public boolean isImportable() {
+        return isImportable;
+    }
+
+    /**
+     * Returns the format of the file named {@code fileName}, going by its extension and ignoring case, if it is one
+     * of the formats.
+     */
+    public static Optional<PersonFileFormat> fromFileName(String fileName) {
+        requireNonNull(fileName);
+        final int extensionStart = fileName.lastIndexOf('.') + 1;
+        if (extensionStart == 0) {
+            return Optional.empty();
+        }
+        final String extension = fileName.substring(extensionStart).toLowerCase(Locale.ROOT);
+        for (PersonFileFormat format : values()) {
+            if (format.extensions.contains(extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.AppUtil.checkNotInterrupted;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Imports persons from a file, validating them in parallel as the file is read.
+ *
+ * The records of the file are read one at a time and handed out in chunks of {@link #CHUNK_SIZE} to the threads of
+ * an executor, which validate them while the next chunks are read. At most {@link #maxPendingChunks} chunks are
+ * waiting to be validated at a time, so reading does not run ahead of validation by more than a few chunks.
+ * The results of the chunks are collected in order, so the persons imported are in the order of the file.
+ */
+public class PersonImporter {
+
+    /** The number of records validated by one thread at a time. */
+    static final int CHUNK_SIZE = 256;
+
+    private final ExecutorService executor;
+    private final int maxPendingChunks;
+
+    /**
+     * Constructs an importer which validates records in the common fork/join pool.
+     */
+    public PersonImporter() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    /**
+     * Constructs an importer which validates records in {@code executor}, with at most {@code maxPendingChunks}
+     * chunks of records waiting to be validated at a time.
+     */
+    PersonImporter(ExecutorService executor, int maxPendingChunks) {
+        requireNonNull(executor);
+        checkArgument(maxPendingChunks > 0, "At least one chunk must be able to wait");
+        this.executor = executor;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Returns the persons in {@code file}, which is in {@code format} and encoded in UTF-8, with the errors in the
+     * records that could not be imported.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws CancellationException if the current thread is interrupted while importing, in which case the
+     *     validation of the records read so far is cancelled.
+     */
+    public Result importPersons(Path file, PersonFileFormat format) throws IOException {
+        requireAllNonNull(file, format);
+        try (PersonRecordReader reader = PersonRecordReader.open(Files.newBufferedReader(file, StandardCharsets.UTF_8),
+                format)) {
+            return importPersons(reader);
+        }
+    }
+
+    /**
+     * Returns the persons in the records read by {@code reader}, with the errors in the records that could not be
+     * imported.
+     *
+     * @throws IOException if the records cannot be read.
+     * @throws CancellationException if the current thread is interrupted while importing.
+     */
+    Result importPersons(PersonRecordReader reader) throws IOException {
+        final Result result = new Result();
+        final Deque<Future<List<Validated>>> pendingChunks = new ArrayDeque<>();
+        try {
+            List<PersonRecord> chunk = readChunk(reader);
+            while (!chunk.isEmpty()) {
+                checkNotInterrupted();
+                final List<PersonRecord> records = chunk;
+                pendingChunks.add(executor.submit(() -> validate(records)));
+                if (pendingChunks.size() >= maxPendingChunks) {
+                    result.addAll(getValidated(pendingChunks.remove()));
+                }
+                chunk = readChunk(reader);
+            }
+            while (!pendingChunks.isEmpty()) {
+                result.addAll(getValidated(pendingChunks.remove()));
+            }
+        } finally {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.cancel(true));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the next {@link #CHUNK_SIZE} records read by {@code reader}, or fewer at the end of its input.
+     */
+    private static List<PersonRecord> readChunk(PersonRecordReader reader) throws IOException {
+        final List<PersonRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+        PersonRecord record;
+        while (chunk.size() < CHUNK_SIZE && (record = reader.read()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    /**
+     * Validates each of {@code records}.
+     */
+    private static List<Validated> validate(List<PersonRecord> records) {
+        final List<Validated> validated = new ArrayList<>(records.size());
+        for (PersonRecord record : records) {
+            try {
+                validated.add(new Validated(record.getLineNumber(), record.toModelType(), null));
+            } catch (IllegalValueException ive) {
+                validated.add(new Validated(record.getLineNumber(), null, ive.getMessage()));
+            }
+        }
+        return validated;
+    }
+
+    /**
+     * Waits for the validation of a chunk and returns its results.
+     *
+     * @throws CancellationException if the current thread is interrupted while waiting.
+     */
+    private static List<Validated> getValidated(Future<List<Validated>> pendingChunk) {
+        try {
+            return pendingChunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException e) {
+            // only unchecked exceptions can be thrown by the validation
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * The result of validating one record: the person in it, or the reason that it is invalid.
+     */
+    private static class Validated {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        Validated(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The persons imported from a file, in the order of the file, and the errors in the records that could not be
+     * imported, by the line that each record starts at.
+     */
+    public static class Result {
+        private final List<ReadOnlyPerson> persons = new ArrayList<>();
+        private final List<Integer> lineNumbers = new ArrayList<>();
+        private final SortedMap<Integer, String> errors = new TreeMap<>();
+
+        /**
+         * Adds the persons of the valid records of {@code validated}, and the errors of the invalid ones.
+         */
+        private void addAll(List<Validated> validated) {
+            for (Validated record : validated) {
+                if (record.person != null) {
+                    persons.add(record.person);
+                    lineNumbers.add(record.lineNumber);
+                } else {
+                    errors.put(record.lineNumber, record.error);
+                }
+            }
+        }
+
+        public List<ReadOnlyPerson> getPersons() {
+            return Collections.unmodifiableList(persons);
+        }
+
+        /**
+         * Returns the number of the line that each person of {@link #getPersons()}, by position, starts at.
+         */
+        public List<Integer> getLineNumbers() {
+            return Collections.unmodifiableList(lineNumbers);
+        }
+
+        public SortedMap<Integer, String> getErrors() {
+            return Collections.unmodifiableSortedMap(errors);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The unvalidated details of a person as read from one record of an imported file, which starts at a known line.
+ * A record which could not be read holds the reason instead of the details.
+ */
+public class PersonRecord {
+
+    public static final String MESSAGE_MISSING_FIELD = "Missing %1$s";
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+    private final String malformedReason;
+
+    /**
+     * Constructs a record of the given details, any of which but {@code tags} may be null if it was missing from the
+     * record starting at {@code lineNumber}.
+     */
+    public PersonRecord(int lineNumber, String name, String phone, String email, String address, List<String> tags) {
+        requireAllNonNull(tags);
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = new ArrayList<>(tags);
+        this.malformedReason = null;
+    }
+
+    private PersonRecord(int lineNumber, String malformedReason) {
+        this.lineNumber = lineNumber;
+        this.name = null;
+        this.phone = null;
+        this.email = null;
+        this.address = null;
+        this.tags = new ArrayList<>();
+        this.malformedReason = malformedReason;
+    }
+
+    /**
+     * Returns a record starting at {@code lineNumber} which could not be read, for the reason given.
+     */
+    public static PersonRecord malformed(int lineNumber, String reason) {
+        return new PersonRecord(lineNumber, reason);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Validates the details of this record and converts them into the model's Person object.
+     *
+     * @throws IllegalValueException if the record could not be read, a detail is missing or a detail violates the
+     *     constraints of its field.
+     */
+    public Person toModelType() throws IllegalValueException {
+        if (malformedReason != null) {
+            throw new IllegalValueException(malformedReason);
+        }
+        final Name name = new Name(require(this.name, "name"));
+        final Phone phone = new Phone(require(this.phone, "phone"));
+        final Email email = new Email(require(this.email, "email"));
+        final Address address = new Address(require(this.address, "address"));
+        final Set<Tag> tags = new HashSet<>();
+        for (String tagName : this.tags) {
+            tags.add(new Tag(tagName.trim()));
+        }
+        return new Person(name, phone, email, address, tags);
+    }
+
+    /**
+     * Returns {@code value} if it is present and not blank.
+     * @throws IllegalValueException naming {@code field} otherwise.
+     */
+    private static String require(String value, String field) throws IllegalValueException {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersonRecord)) {
+            return false;
+        }
+        PersonRecord record = (PersonRecord) other;
+        return lineNumber == record.lineNumber
+                && Objects.equals(name, record.name)
+                && Objects.equals(phone, record.phone)
+                && Objects.equals(email, record.email)
+                && Objects.equals(address, record.address)
+                && tags.equals(record.tags)
+                && Objects.equals(malformedReason, record.malformedReason);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber, name, phone, email, address, tags, malformedReason);
+    }
+
+    @Override
+    public String toString() {
+        return malformedReason != null
+                ? "Line " + lineNumber + ": " + malformedReason
+                : "Line " + lineNumber + ": " + name + ", " + phone + ", " + email + ", " + address + ", " + tags;
+    }
+}
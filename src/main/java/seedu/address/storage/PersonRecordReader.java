@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the records of persons from a file one at a time, so that the file is never held in memory as a whole.
+ * Records are read without being validated; a record which cannot be read is returned as a malformed record, so
+ * that reading can carry on with the records after it.
+ */
+public abstract class PersonRecordReader implements Closeable {
+
+    private final BufferedReader reader;
+    private int lineNumber = 0;
+
+    protected PersonRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns a reader of the records in {@code reader}, which are in {@code format}.
+     * {@code format} must be {@link PersonFileFormat#isImportable() importable}.
+     */
+    public static PersonRecordReader open(BufferedReader reader, PersonFileFormat format) {
+        requireAllNonNull(reader, format);
+        checkArgument(format.isImportable(), "Persons cannot be imported from " + format);
+        switch (format) {
+        case CSV:
+            return new CsvPersonRecordReader(reader);
+        case VCARD:
+            return new VCardPersonRecordReader(reader);
+        default:
+            throw new AssertionError("Unknown format " + format);
+        }
+    }
+
+    /**
+     * Returns the next record, or null if there are no more records.
+     */
+    public abstract PersonRecord read() throws IOException;
+
+    /**
+     * Returns the next line, or null at the end of the input.
+     */
+    protected String readLine() throws IOException {
+        final String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * Returns the number of the line last returned by {@link #readLine()}, counting from 1.
+     */
+    protected int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
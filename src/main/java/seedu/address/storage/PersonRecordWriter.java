@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes the records of persons to a file one at a time, so that the output is never held in memory as a whole.
+ * Closing the writer writes whatever ends the output after the last person, and closes the underlying writer.
+ */
+public abstract class PersonRecordWriter implements Closeable {
+
+    protected final Writer writer;
+
+    protected PersonRecordWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Returns a writer of records in {@code format} to {@code writer}.
+     */
+    public static PersonRecordWriter open(Writer writer, PersonFileFormat format) throws IOException {
+        requireAllNonNull(writer, format);
+        switch (format) {
+        case CSV:
+            return new CsvPersonRecordWriter(writer);
+        case VCARD:
+            return new VCardPersonRecordWriter(writer);
+        case JSON:
+            return new JsonPersonRecordWriter(writer);
+        default:
+            throw new AssertionError("Unknown format " + format);
+        }
+    }
+
+    /**
+     * Writes the record of {@code person}.
+     */
+    public abstract void write(ReadOnlyPerson person) throws IOException;
+
+    /**
+     * Returns the names of the tags of {@code person} in alphabetical order, so that the output does not depend on
+     * the order in which the tags are held.
+     */
+    protected static List<String> getSortedTagNames(ReadOnlyPerson person) {
+        final List<String> tagNames = new ArrayList<>(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        Collections.sort(tagNames);
+        return tagNames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
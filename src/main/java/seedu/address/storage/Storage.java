@@ -30,9 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Schedules the current version of the Address Book to be saved to the hard disk in the background.
+     * Changes that arrive in quick succession are saved together.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Saves any changes to the Address Book that are still scheduled to be saved,
+     * and returns only after they have been saved.
+     */
+    void flushPendingSaves();
 }
@@ -22,12 +22,14 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AsyncAddressBookSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookSaver = new AsyncAddressBookSaver(addressBookStorage, this::raiseDataSavingException);
     }
 
     // ================ UserPrefs methods ==============================
@@ -81,12 +83,17 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        addressBookSaver.submit(new AddressBookSnapshot(event.data));
+    }
+
+    private void raiseDataSavingException(IOException exception) {
+        raise(new DataSavingExceptionEvent(exception));
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        addressBookSaver.flush();
     }
 
 }
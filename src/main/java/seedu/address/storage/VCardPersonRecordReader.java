@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads persons from vCards (RFC 2426 and RFC 6350), one person per card.
+ *
+ * The name is read from the FN property, or from the N property if there is none, and the phone, email and address
+ * from the first TEL, EMAIL and ADR properties. The non-empty components of an address are joined with commas, and
+ * the visual separators of a phone number, such as spaces and hyphens, are removed. Tags are read from the
+ * CATEGORIES properties. Other properties, and any lines outside of cards, are ignored.
+ */
+class VCardPersonRecordReader extends PersonRecordReader {
+
+    static final String MESSAGE_UNTERMINATED_CARD = "vCard is not ended by END:VCARD";
+
+    private static final String BEGIN_CARD = "BEGIN:VCARD";
+    private static final String END_CARD = "END:VCARD";
+    private static final String TEL_URI_SCHEME = "tel:";
+    private static final String PHONE_VISUAL_SEPARATORS_REGEX = "[\\s().-]";
+    private static final String ADDRESS_COMPONENT_SEPARATOR = ", ";
+
+    // the line after the last unfolded line, which has been read to find the end of that line, and its number
+    private String nextLine;
+    private int nextLineNumber;
+    private boolean hasStarted = false;
+    // the number of the first physical line of the last unfolded line
+    private int unfoldedLineNumber;
+
+    VCardPersonRecordReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        String line = readUnfoldedLine();
+        while (line != null && !line.trim().equalsIgnoreCase(BEGIN_CARD)) {
+            line = readUnfoldedLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        final int startLineNumber = unfoldedLineNumber;
+        String name = null;
+        String structuredName = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        final List<String> tags = new ArrayList<>();
+        while ((line = readUnfoldedLine()) != null && !line.trim().equalsIgnoreCase(END_CARD)) {
+            final int valueStart = line.indexOf(':');
+            if (valueStart < 0) {
+                continue;
+            }
+            final String value = line.substring(valueStart + 1);
+            switch (getPropertyName(line.substring(0, valueStart))) {
+            case "FN":
+                name = name == null ? unescape(value) : name;
+                break;
+            case "N":
+                structuredName = structuredName == null ? toName(splitUnescaped(value, ';')) : structuredName;
+                break;
+            case "TEL":
+                phone = phone == null ? toPhone(unescape(value)) : phone;
+                break;
+            case "EMAIL":
+                email = email == null ? unescape(value) : email;
+                break;
+            case "ADR":
+                address = address == null ? toAddress(splitUnescaped(value, ';')) : address;
+                break;
+            case "CATEGORIES":
+                for (String tag : splitUnescaped(value, ',')) {
+                    if (!tag.trim().isEmpty()) {
+                        tags.add(tag);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        if (line == null) {
+            return PersonRecord.malformed(startLineNumber, MESSAGE_UNTERMINATED_CARD);
+        }
+        return new PersonRecord(startLineNumber, name != null ? name : structuredName, phone, email, address, tags);
+    }
+
+    /**
+     * Returns the next logical line, joining the physical lines folded into it by starting them with a space or a
+     * tab, or null at the end of the input. Its number is recorded in {@link #unfoldedLineNumber}.
+     */
+    private String readUnfoldedLine() throws IOException {
+        if (!hasStarted) {
+            hasStarted = true;
+            readNextLine();
+        }
+        final String line = nextLine;
+        if (line == null) {
+            return null;
+        }
+        unfoldedLineNumber = nextLineNumber;
+        final StringBuilder unfolded = new StringBuilder(line);
+        readNextLine();
+        while (nextLine != null && !nextLine.isEmpty()
+                && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) {
+            unfolded.append(nextLine, 1, nextLine.length());
+            readNextLine();
+        }
+        return unfolded.toString();
+    }
+
+    private void readNextLine() throws IOException {
+        nextLine = readLine();
+        nextLineNumber = getLineNumber();
+    }
+
+    /**
+     * Returns the upper-case name of the property in {@code nameAndParameters}, without its group and parameters,
+     * e.g. TEL for {@code item1.TEL;TYPE=cell}.
+     */
+    private static String getPropertyName(String nameAndParameters) {
+        final int parametersStart = nameAndParameters.indexOf(';');
+        final String name = parametersStart < 0 ? nameAndParameters
+                                                : nameAndParameters.substring(0, parametersStart);
+        return name.substring(name.lastIndexOf('.') + 1).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the components of a structured name (family; given; additional; prefixes; suffixes) as a full name.
+     */
+    private static String toName(List<String> components) {
+        final List<String> ordered = new ArrayList<>();
+        for (int i : new int[] {3, 1, 2, 0, 4}) {
+            if (i < components.size() && !components.get(i).trim().isEmpty()) {
+                ordered.add(components.get(i).trim());
+            }
+        }
+        return String.join(" ", ordered);
+    }
+
+    /**
+     * Returns the phone number in {@code value}, which may be a tel URI, without its visual separators.
+     */
+    private static String toPhone(String value) {
+        final String number = value.regionMatches(true, 0, TEL_URI_SCHEME, 0, TEL_URI_SCHEME.length())
+                ? value.substring(TEL_URI_SCHEME.length()) : value;
+        return number.replaceAll(PHONE_VISUAL_SEPARATORS_REGEX, "");
+    }
+
+    /**
+     * Returns the non-empty components of a structured address, joined with commas.
+     */
+    private static String toAddress(List<String> components) {
+        final List<String> nonEmpty = new ArrayList<>();
+        for (String component : components) {
+            if (!component.trim().isEmpty()) {
+                nonEmpty.add(component.trim());
+            }
+        }
+        return String.join(ADDRESS_COMPONENT_SEPARATOR, nonEmpty);
+    }
+
+    /**
+     * Splits {@code value} at each {@code separator} which is not escaped by a backslash, and unescapes the parts.
+     */
+    private static List<String> splitUnescaped(String value, char separator) {
+        final List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '\\') {
+                i++;
+            } else if (value.charAt(i) == separator) {
+                parts.add(unescape(value.substring(partStart, i)));
+                partStart = i + 1;
+            }
+        }
+        parts.add(unescape(value.substring(partStart)));
+        return parts;
+    }
+
+    /**
+     * Returns {@code value} with its escaped characters unescaped, and escaped line breaks replaced by spaces since
+     * no field of a person can span lines.
+     */
+    private static String unescape(String value) {
+        final StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                c = value.charAt(++i);
+                unescaped.append(c == 'n' || c == 'N' ? ' ' : c);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Writes persons as vCards (RFC 2426), one card per person, which can be read back by
+ * {@link VCardPersonRecordReader}.
+ *
+ * The name is written as the FN property, and also as the family name of the N property that version 3.0 requires,
+ * since a name cannot be split into its parts reliably. The address is written as the street of the ADR property,
+ * and the tags as the CATEGORIES property. Lines longer than {@link #MAX_LINE_LENGTH} characters are folded.
+ */
+class VCardPersonRecordWriter extends PersonRecordWriter {
+
+    static final int MAX_LINE_LENGTH = 75;
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String FOLD = LINE_SEPARATOR + " ";
+
+    VCardPersonRecordWriter(Writer writer) {
+        super(writer);
+    }
+
+    @Override
+    public void write(ReadOnlyPerson person) throws IOException {
+        final String name = escape(person.getName().fullName);
+        writeLine("BEGIN:VCARD");
+        writeLine("VERSION:3.0");
+        writeLine("FN:" + name);
+        writeLine("N:" + name + ";;;;");
+        writeLine("TEL:" + escape(person.getPhone().value));
+        writeLine("EMAIL;TYPE=INTERNET:" + escape(person.getEmail().value));
+        writeLine("ADR:;;" + escape(person.getAddress().value) + ";;;;");
+        final List<String> tagNames = getSortedTagNames(person);
+        if (!tagNames.isEmpty()) {
+            // tags are alphanumeric, so they need no escaping
+            writeLine("CATEGORIES:" + String.join(",", tagNames));
+        }
+        writeLine("END:VCARD");
+    }
+
+    /**
+     * Writes {@code line}, folded so that no physical line is longer than {@link #MAX_LINE_LENGTH} characters.
+     * Each continuation line starts with a space, which the reader removes when unfolding the lines.
+     */
+    private void writeLine(String line) throws IOException {
+        int start = 0;
+        int maxLength = MAX_LINE_LENGTH;
+        while (true) {
+            int end = Math.min(start + maxLength, line.length());
+            if (end < line.length() && Character.isHighSurrogate(line.charAt(end - 1))) {
+                // not splitting a surrogate pair across lines
+                end--;
+            }
+            writer.write(line, start, end - start);
+            start = end;
+            if (start == line.length()) {
+                break;
+            }
+            writer.write(FOLD);
+            maxLength = MAX_LINE_LENGTH - 1;
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns {@code value} with the characters that are special in vCard property values escaped by a backslash.
+     */
+    private static String escape(String value) {
+        if (!needsEscaping(value)) {
+            return value;
+        }
+        final StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+            case '\\':
+            case ',':
+            case ';':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                escaped.append(c);
+                break;
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static boolean needsEscaping(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '\\' || c == ',' || c == ';' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,8 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,15 +15,22 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
+ * The file can be read through a memory mapping instead of a buffered stream, see {@link MappedFileInputStream}.
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
+    private boolean isMemoryMapped;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, false);
+    }
+
+    public XmlAddressBookStorage(String filePath, boolean isMemoryMapped) {
         this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
     }
 
     public String getAddressBookFilePath() {
@@ -41,7 +48,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         File addressBookFile = new File(filePath);
@@ -51,7 +58,14 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyAddressBook addressBookOptional;
+        if (isMemoryMapped) {
+            try (InputStream in = new MappedFileInputStream(addressBookFile)) {
+                addressBookOptional = XmlStreamFileStorage.loadDataFromStream(in);
+            }
+        } else {
+            addressBookOptional = XmlStreamFileStorage.loadDataFromSaveFile(addressBookFile);
+        }
 
         return Optional.of(addressBookOptional);
     }
@@ -71,7 +85,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        XmlStreamFileStorage.saveDataToFile(file, addressBook);
     }
 
 }
@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in an XML file in the format of {@link XmlSerializableAddressBook}, reading and writing it
+ * as a stream instead of through an intermediate {@code XmlSerializableAddressBook}.
+ *
+ * Each {@code <persons>} element is converted into a {@code Person} as soon as it has been read, and persons with
+ * the same tag share one {@code Tag} object, so the address book read is only held in memory once.
+ */
+public class XmlStreamFileStorage {
+
+    private static final String ADDRESS_BOOK_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String NAME_ELEMENT = "name";
+    private static final String PHONE_ELEMENT = "phone";
+    private static final String EMAIL_ELEMENT = "email";
+    private static final String ADDRESS_ELEMENT = "address";
+    private static final String PERSON_TAG_ELEMENT = "tagged";
+
+    private static final String ENCODING = "UTF-8";
+    private static final String INDENT = "    ";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    /**
+     * Saves the given addressbook data to the specified file.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            saveDataToStream(out, addressBook);
+        }
+    }
+
+    /**
+     * Writes the given addressbook data to {@code out}, which is left open.
+     */
+    public static void saveDataToStream(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(out);
+        requireNonNull(addressBook);
+
+        try {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+            writer.writeStartDocument(ENCODING, "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ADDRESS_BOOK_ELEMENT);
+            for (ReadOnlyPerson person : addressBook.getPersonList()) {
+                writePerson(writer, person);
+            }
+            for (Tag tag : addressBook.getTagList()) {
+                writeTextElement(writer, 1, TAG_ELEMENT, tag.tagName);
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Returns address book in the file.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static ReadOnlyAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
+                                                                            FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return loadDataFromStream(in);
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns address book read from {@code in}, which is left open.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public static ReadOnlyAddressBook loadDataFromStream(InputStream in) throws DataConversionException {
+        requireNonNull(in);
+
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            reader.nextTag();
+            reader.require(XMLStreamConstants.START_ELEMENT, null, ADDRESS_BOOK_ELEMENT);
+
+            final Map<String, Tag> sharedTags = new HashMap<>();
+            final List<ReadOnlyPerson> persons = new ArrayList<>();
+            final List<Tag> tags = new ArrayList<>();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case PERSON_ELEMENT:
+                    persons.add(readPerson(reader, sharedTags));
+                    break;
+                case TAG_ELEMENT:
+                    tags.add(getSharedTag(reader.getElementText(), sharedTags));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            reader.close();
+            return new AddressBookSnapshot(persons, tags);
+        } catch (XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the {@code <persons>} element that {@code reader} is at into a {@code Person}.
+     */
+    private static Person readPerson(XMLStreamReader reader, Map<String, Tag> sharedTags)
+            throws XMLStreamException, IllegalValueException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        final Set<Tag> tags = new HashSet<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = reader.getElementText();
+                break;
+            case PHONE_ELEMENT:
+                phone = reader.getElementText();
+                break;
+            case EMAIL_ELEMENT:
+                email = reader.getElementText();
+                break;
+            case ADDRESS_ELEMENT:
+                address = reader.getElementText();
+                break;
+            case PERSON_TAG_ELEMENT:
+                tags.add(getSharedTag(reader.getElementText(), sharedTags));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (name == null || phone == null || email == null || address == null) {
+            throw new IllegalValueException("Person at line " + reader.getLocation().getLineNumber()
+                    + " is missing some details");
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    /**
+     * Returns the tag named {@code tagName} in {@code sharedTags}, adding it if it is not there yet.
+     */
+    private static Tag getSharedTag(String tagName, Map<String, Tag> sharedTags) throws IllegalValueException {
+        Tag tag = sharedTags.get(tagName);
+        if (tag == null) {
+            tag = new Tag(tagName);
+            sharedTags.put(tagName, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element past its end, ignoring its contents.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code person} as a {@code <persons>} element.
+     */
+    private static void writePerson(XMLStreamWriter writer, ReadOnlyPerson person) throws XMLStreamException {
+        writeIndent(writer, 1);
+        writer.writeStartElement(PERSON_ELEMENT);
+        writeTextElement(writer, 2, NAME_ELEMENT, person.getName().fullName);
+        writeTextElement(writer, 2, PHONE_ELEMENT, person.getPhone().value);
+        writeTextElement(writer, 2, EMAIL_ELEMENT, person.getEmail().value);
+        writeTextElement(writer, 2, ADDRESS_ELEMENT, person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            writeTextElement(writer, 2, PERSON_TAG_ELEMENT, tag.tagName);
+        }
+        writeIndent(writer, 1);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element named {@code element} containing only {@code text}, on a new line at {@code depth}.
+     */
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String element, String text)
+            throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(element);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Starts a new line indented to {@code depth}.
+     */
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    /**
+     * Returns a factory for readers which do not process document type definitions or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,23 +10,35 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.logic.CommandCallback;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.FindCommand;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While a {@code find} command is being typed, the person list is narrowed to the persons whose names have words
+ * starting with the keywords typed so far.
+ * Commands are run in the background, one at a time. While a command is running, the command box is given the
+ * {@link #RUNNING_STYLE_CLASS} and pressing Esc cancels the command.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
+    public static final String MESSAGE_COMMAND_RUNNING = "The previous command is still running. "
+            + "Press Esc to cancel it.";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled.";
     private static final String FXML = "CommandBox.fxml";
+    private static final String SEARCH_AS_YOU_TYPE_PREFIX = FindCommand.COMMAND_WORD + " ";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private boolean isSearchingAsYouType = false;
+    // the command being run in the background, or null if there is none
+    private Future<?> runningCommand;
 
     @FXML
     private TextField commandTextField;
@@ -35,6 +48,7 @@ public class CommandBox extends UiPart<Region> {
         this.logic = logic;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> searchAsYouType(text));
         historySnapshot = logic.getHistorySnapshot();
     }
 
@@ -55,6 +69,12 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            if (runningCommand != null) {
+                keyEvent.consume();
+                runningCommand.cancel(true);
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -96,25 +116,91 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event by running the command entered in the background.
      */
     @FXML
     private void handleCommandInputChanged() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
+        if (runningCommand != null) {
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_RUNNING));
+            return;
+        }
+
+        final String commandText = commandTextField.getText();
+        commandTextField.getStyleClass().add(RUNNING_STYLE_CLASS);
+        runningCommand = logic.executeInBackground(commandText, new CommandCallback() {
+            @Override
+            public void onSuccess(CommandResult result) {
+                handleCommandSuccess(commandText, result);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                handleCommandFailure(commandText, failure);
+            }
+
+            @Override
+            public void onCancelled() {
+                handleCommandCancelled(commandText);
+            }
+        });
+    }
+
+    /**
+     * Shows the result of the successful command {@code commandText}, clearing the command box unless the user has
+     * started typing something else while the command was running.
+     */
+    private void handleCommandSuccess(String commandText, CommandResult commandResult) {
+        handleCommandCompleted();
+        historySnapshot.next();
+        // process result of the command, keeping the persons it lists
+        isSearchingAsYouType = false;
+        if (commandTextField.getText().equals(commandText)) {
             commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        }
+        logger.info("Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
+
+    /**
+     * Shows the error of the failed command {@code commandText}.
+     */
+    private void handleCommandFailure(String commandText, Throwable failure) {
+        handleCommandCompleted();
+        // handle command failure
+        setStyleToIndicateCommandFailure();
+        logger.info("Invalid command: " + commandText);
+        raise(new NewResultAvailableEvent(failure.getMessage() != null ? failure.getMessage() : failure.toString()));
+    }
+
+    /**
+     * Shows that the command {@code commandText} was cancelled, keeping it in the command box to be edited.
+     */
+    private void handleCommandCancelled(String commandText) {
+        handleCommandCompleted();
+        logger.info("Cancelled command: " + commandText);
+        raise(new NewResultAvailableEvent(MESSAGE_COMMAND_CANCELLED));
+    }
+
+    /**
+     * Allows the next command to be run once the running command has completed.
+     */
+    private void handleCommandCompleted() {
+        runningCommand = null;
+        commandTextField.getStyleClass().remove(RUNNING_STYLE_CLASS);
+        initHistory();
+    }
+
+    /**
+     * Narrows the person list to the persons matching the keywords typed so far if {@code text} is a {@code find}
+     * command, and shows all persons again once the text is no longer a {@code find} command.
+     */
+    private void searchAsYouType(String text) {
+        if (text.startsWith(SEARCH_AS_YOU_TYPE_PREFIX)) {
+            isSearchingAsYouType = true;
+            logic.searchNamesAsYouTypeInBackground(text.substring(SEARCH_AS_YOU_TYPE_PREFIX.length()));
+        } else if (isSearchingAsYouType) {
+            isSearchingAsYouType = false;
+            logic.searchNamesAsYouTypeInBackground("");
         }
     }
 
@@ -0,0 +1,112 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of an {@code ObservableList} that is only changed on the JavaFX application thread, so that it
+ * can be shown by controls while the source list is changed on other threads.
+ *
+ * Every change to the source list is recorded as it is made, holding only the elements added and the positions
+ * changed, and is then applied to the copy on the JavaFX application thread as a single change, in the order the
+ * changes were made. The cost of keeping the copy up to date thus grows with the size of the changes rather than
+ * the size of the list, and controls showing the copy keep their selection as elements are added or removed.
+ */
+class FxThreadListCopy<E> extends ObservableListBase<E> {
+
+    private final List<E> elements;
+    // the changes to the source list not yet applied to the copy, each as the edits of its sub-changes
+    private final Queue<List<Runnable>> pendingChanges = new ConcurrentLinkedQueue<>();
+    // true if pendingChanges is to be applied by a runnable waiting on the JavaFX application thread
+    private final AtomicBoolean isApplyScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed while the copy is created.
+     */
+    FxThreadListCopy(ObservableList<? extends E> source) {
+        elements = new ArrayList<>(source);
+        source.addListener(this::recordChange);
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends E> change) {
+        final List<Runnable> edits = new ArrayList<>();
+        while (change.next()) {
+            final int from = change.getFrom();
+            final int to = change.getTo();
+            if (change.wasPermutated()) {
+                final int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                edits.add(() -> permute(from, to, permutation));
+            } else if (!change.wasUpdated()) {
+                final int removedSize = change.getRemovedSize();
+                final List<E> added = new ArrayList<>(change.getAddedSubList());
+                edits.add(() -> replace(from, removedSize, added));
+            }
+        }
+        pendingChanges.add(edits);
+
+        if (Platform.isFxApplicationThread()) {
+            applyPendingChanges();
+        } else if (isApplyScheduled.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                isApplyScheduled.set(false);
+                applyPendingChanges();
+            });
+        }
+    }
+
+    /**
+     * Applies the changes to the source list recorded so far, each as a single change to the copy.
+     */
+    private void applyPendingChanges() {
+        List<Runnable> edits;
+        while ((edits = pendingChanges.poll()) != null) {
+            beginChange();
+            try {
+                edits.forEach(Runnable::run);
+            } finally {
+                endChange();
+            }
+        }
+    }
+
+    private void replace(int from, int removedSize, List<E> added) {
+        final List<E> replaced = elements.subList(from, from + removedSize);
+        if (removedSize > 0) {
+            nextRemove(from, new ArrayList<>(replaced));
+        }
+        replaced.clear();
+        elements.addAll(from, added);
+        if (!added.isEmpty()) {
+            nextAdd(from, from + added.size());
+        }
+    }
+
+    private void permute(int from, int to, int[] permutation) {
+        final List<E> permuted = new ArrayList<>(elements.subList(from, to));
+        for (int i = from; i < to; i++) {
+            elements.set(permutation[i - from], permuted.get(i - from));
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
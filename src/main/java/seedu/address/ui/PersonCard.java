@@ -1,25 +1,43 @@
 package seedu.address.ui;
 
-import java.util.HashMap;
-import java.util.Random;
+import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
-import javafx.fxml.FXML;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ *
+ * A card can be reused to display other persons with {@link #setPerson(ReadOnlyPerson, int)}, so that a list of
+ * persons only needs as many cards as it has visible rows.
+ *
+ * As cards are created for every visible row, their scene graph is built in code rather than loaded from an FXML
+ * file. The ids and style classes of its nodes are those used by the style sheets.
  */
 public class PersonCard extends UiPart<Region> {
 
-    private static final String FXML = "PersonListCard.fxml";
-    private static String[] colors = {"red", "green", "blue", "black", "brown", "grey"};
-    private static HashMap<String, String> tagColors = new HashMap<String, String>();
-    private static Random randomColor = new Random();
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+    private static final String TAG_LABEL_STYLE_CLASS = "label";
+    private static final int NO_DISPLAYED_INDEX = -1;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -29,41 +47,106 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final ReadOnlyPerson person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private FlowPane tags;
+    private ReadOnlyPerson person;
+    private int displayedIndex = NO_DISPLAYED_INDEX;
+    private final ChangeListener<UniqueTagList> tagsListener = (observable, oldValue, newValue) -> updateTags();
+
+    private final HBox cardPane = new HBox();
+    private final Label name = createLabel("name", BIG_LABEL_STYLE_CLASS);
+    private final Label id = createLabel("id", BIG_LABEL_STYLE_CLASS);
+    private final Label phone = createLabel("phone", SMALL_LABEL_STYLE_CLASS);
+    private final Label address = createLabel("address", SMALL_LABEL_STYLE_CLASS);
+    private final Label email = createLabel("email", SMALL_LABEL_STYLE_CLASS);
+    private final FlowPane tags = new FlowPane();
+
+    /**
+     * Constructs a card which displays no person until {@link #setPerson(ReadOnlyPerson, int)} is called.
+     */
+    public PersonCard() {
+        buildSceneGraph();
+        setRoot(cardPane);
+    }
 
     public PersonCard(ReadOnlyPerson person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public ReadOnlyPerson getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} as the {@code displayedIndex}-th person in the list, in place of the person displayed
+     * before, if any.
+     *
+     * Nothing on the card is changed if it already displays the same person at the same index, which is the case for
+     * most rows when the list is changed, as list views update every visible row on most changes.
+     */
+    public void setPerson(ReadOnlyPerson person, int displayedIndex) {
+        requireNonNull(person);
+        if (displayedIndex != this.displayedIndex) {
+            id.setText(displayedIndex + ". ");
+            this.displayedIndex = displayedIndex;
+        }
+        if (person == this.person) {
+            return;
+        }
+        clearPerson();
         this.person = person;
-        id.setText(displayedIndex + ". ");
-        initTags(person);
         bindListeners(person);
+        showTags();
     }
 
     /**
-     * Assign a random color to a tag if it does not have an existing color.
-     * @return the color assigned to that tag
+     * Stops displaying the person displayed, if any, so that the card no longer observes the person.
      */
-    private static String getColorForTag(String tagValue) {
-        if (!tagColors.containsKey(tagValue)) {
-            tagColors.put(tagValue, colors[randomColor.nextInt(colors.length)]);
+    public void clearPerson() {
+        if (person == null) {
+            return;
         }
+        person.tagProperty().removeListener(tagsListener);
+        name.textProperty().unbind();
+        phone.textProperty().unbind();
+        address.textProperty().unbind();
+        email.textProperty().unbind();
+        person = null;
+    }
 
-        return tagColors.get(tagValue);
+    /**
+     * Lays out the nodes of the card: the index and name on the first line, followed by the tags, phone, address
+     * and email.
+     */
+    private void buildSceneGraph() {
+        // ensures that the index is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        final HBox indexAndName = new HBox(5, id, name);
+        indexAndName.setAlignment(Pos.CENTER_LEFT);
+
+        tags.setId("tags");
+        final VBox details = new VBox(indexAndName, tags, phone, address, email);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(105);
+        details.setPadding(new Insets(5, 5, 5, 15));
+
+        final ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        final GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane.setId("cardPane");
+        cardPane.getChildren().add(grid);
+    }
+
+    private static Label createLabel(String id, String styleClass) {
+        final Label label = new Label();
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        return label;
     }
 
     /**
@@ -75,23 +158,45 @@ public class PersonCard extends UiPart<Region> {
         phone.textProperty().bind(Bindings.convert(person.phoneProperty()));
         address.textProperty().bind(Bindings.convert(person.addressProperty()));
         email.textProperty().bind(Bindings.convert(person.emailProperty()));
-        person.tagProperty().addListener((observable, oldValue, newValue) -> {
-            tags.getChildren().clear();
-            initTags(person);
-        });
+        person.tagProperty().addListener(tagsListener);
     }
 
     /**
-     * Creates a tag label for every {@code Person} and sets a color for each tag label.
+     * Shows the tags of the person displayed, which have just been changed on the current thread.
+     * Tags changed by commands running in the background are shown later on the JavaFX application thread, if the
+     * card still displays a person by then.
      */
-    private void initTags(ReadOnlyPerson person) {
-        person.getTags().forEach(tag -> {
-            Label tagLabel = new Label(tag.tagName);
-            tagLabel.setStyle("-fx-background-color: " + getColorForTag(tag.tagName));
-            tags.getChildren().add(tagLabel);
+    private void updateTags() {
+        if (Platform.isFxApplicationThread()) {
+            showTags();
+            return;
+        }
+
+        Platform.runLater(() -> {
+            if (person != null) {
+                showTags();
+            }
         });
     }
 
+    /**
+     * Shows a label for every tag of the person displayed, styled with the style class of its tag.
+     * The tag labels already on the card are reused, as the card may have displayed another person before.
+     */
+    private void showTags() {
+        final ObservableList<Node> tagLabels = tags.getChildren();
+        int labelCount = 0;
+        for (Tag tag : person.getTags()) {
+            if (labelCount == tagLabels.size()) {
+                tagLabels.add(new Label());
+            }
+            final Label tagLabel = (Label) tagLabels.get(labelCount++);
+            tagLabel.setText(tag.tagName);
+            tagLabel.getStyleClass().setAll(TAG_LABEL_STYLE_CLASS, TagStyles.getStyleClass(tag.tagName));
+        }
+        tagLabels.remove(labelCount, tagLabels.size());
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -107,6 +212,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
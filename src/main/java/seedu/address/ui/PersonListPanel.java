@@ -2,8 +2,6 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import org.fxmisc.easybind.EasyBind;
-
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
@@ -19,13 +17,21 @@ import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Panel containing the list of persons.
+ *
+ * The list is virtualized: each visible row of the list view owns one {@code PersonCard}, which is rebound to
+ * whichever person the row displays as the list is scrolled or changed. Only as many cards as there are visible rows
+ * are ever created, and the number shown on each card is the position of its row.
+ *
+ * The panel shows a {@link FxThreadListCopy} of the list of persons given, as the list of persons may be changed by
+ * commands running in the background. Each change to the list of persons is applied to the copy on the JavaFX
+ * application thread as it was made, so that only the rows it affects are updated.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
-    private ListView<PersonCard> personListView;
+    private ListView<ReadOnlyPerson> personListView;
 
     public PersonListPanel(ObservableList<ReadOnlyPerson> personList) {
         super(FXML);
@@ -34,9 +40,7 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     private void setConnections(ObservableList<ReadOnlyPerson> personList) {
-        ObservableList<PersonCard> mappedList = EasyBind.map(
-                personList, (person) -> new PersonCard(person, personList.indexOf(person) + 1));
-        personListView.setItems(mappedList);
+        personListView.setItems(new FxThreadListCopy<>(personList));
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -68,19 +72,29 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code PersonCard}, which is created once for the cell
+     * and reused for every person the cell displays.
      */
-    class PersonListViewCell extends ListCell<PersonCard> {
+    class PersonListViewCell extends ListCell<ReadOnlyPerson> {
+
+        private PersonCard card;
 
         @Override
-        protected void updateItem(PersonCard person, boolean empty) {
+        protected void updateItem(ReadOnlyPerson person, boolean empty) {
             super.updateItem(person, empty);
 
             if (empty || person == null) {
+                if (card != null) {
+                    card.clearPerson();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(person.getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -12,6 +12,7 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.UndoHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 
 /**
@@ -21,6 +22,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String UNDO_HISTORY_STATUS = "Undo history: %1$d command(s), %2$s";
 
     /**
      * Used to generate time stamps.
@@ -41,6 +43,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar totalPersons;
     @FXML
+    private StatusBar undoHistoryStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
 
@@ -49,6 +53,7 @@ public class StatusBarFooter extends UiPart<Region> {
         setSyncStatus(SYNC_STATUS_INITIAL);
         setSaveLocation("./" + saveLocation);
         setTotalPersons(totalPersons);
+        setUndoHistoryStatus(0, 0);
         registerAsAnEventHandler(this);
     }
 
@@ -75,7 +80,31 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     private void setTotalPersons(int totalPersons) {
-        this.totalPersons.setText(totalPersons + " person(s) total");
+        Platform.runLater(() -> this.totalPersons.setText(totalPersons + " person(s) total"));
+    }
+
+    private void setUndoHistoryStatus(int undoSize, long retainedBytes) {
+        String status = String.format(UNDO_HISTORY_STATUS, undoSize, formatBytes(retainedBytes));
+        Platform.runLater(() -> this.undoHistoryStatus.setText(status));
+    }
+
+    /**
+     * Returns {@code bytes} as a human-readable size, e.g. "512 B", "1.5 KB", "64.0 MB".
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    @Subscribe
+    public void handleUndoHistoryChangedEvent(UndoHistoryChangedEvent uhce) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(uhce));
+        setUndoHistoryStatus(uhce.undoSize, uhce.retainedBytes);
     }
 
     @Subscribe
@@ -0,0 +1,24 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Assigns tags to the style classes that colour their labels, which are defined in the style sheets.
+ *
+ * A tag is assigned a style class by the hash of its name, so that a tag has the same colour on every card and in
+ * every session, and nothing has to be remembered per tag.
+ */
+public class TagStyles {
+
+    private static final String[] STYLE_CLASSES = {"tag_red", "tag_green", "tag_blue", "tag_black", "tag_brown",
+        "tag_grey"};
+
+    /**
+     * Returns the style class of the label of the tag named {@code tagName}.
+     */
+    public static String getStyleClass(String tagName) {
+        requireNonNull(tagName);
+        // String#hashCode is the same in every session
+        return STYLE_CLASSES[Math.floorMod(tagName.hashCode(), STYLE_CLASSES.length)];
+    }
+}
@@ -16,13 +16,17 @@ import seedu.address.commons.events.BaseEvent;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ *
+ * The scene graph is usually loaded from an FXML file. Parts which are created many times, such as the cards of a
+ * list, can instead build their scene graph in code with {@link #UiPart()} and {@link #setRoot(Object)}, which
+ * avoids parsing the FXML file and resolving its classes by reflection for every instance.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private FXMLLoader fxmlLoader;
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -30,13 +34,14 @@ public abstract class UiPart<T> {
      */
     public UiPart(URL fxmlFileUrl) {
         requireNonNull(fxmlFileUrl);
-        fxmlLoader = new FXMLLoader(fxmlFileUrl);
+        FXMLLoader fxmlLoader = new FXMLLoader(fxmlFileUrl);
         fxmlLoader.setController(this);
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        root = fxmlLoader.getRoot();
     }
 
     /**
@@ -47,11 +52,25 @@ public abstract class UiPart<T> {
         this(fxmlFileName != null ? MainApp.class.getResource(FXML_FILE_FOLDER + fxmlFileName) : null);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph is built in code by the subclass, which must then call
+     * {@link #setRoot(Object)} before the UiPart is used.
+     */
+    protected UiPart() {}
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
+    }
+
+    /**
+     * Sets the root object of the scene graph built in code by a UiPart constructed with {@link #UiPart()}.
+     */
+    protected void setRoot(T root) {
+        requireNonNull(root);
+        this.root = root;
     }
 
     /**
@@ -24,7 +24,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to complete.
      * @return true if the command succeeded, false otherwise.
      */
     public boolean run(String command) {
@@ -33,6 +33,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> !getStyleClass().contains(CommandBox.RUNNING_STYLE_CLASS));
 
         return !getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS);
     }
@@ -17,6 +17,7 @@ public class PersonCardHandle extends NodeHandle<Node> {
     private static final String PHONE_FIELD_ID = "#phone";
     private static final String EMAIL_FIELD_ID = "#email";
     private static final String TAGS_FIELD_ID = "#tags";
+    private static final String LABEL_STYLE_CLASS = "label";
 
     private final Label idLabel;
     private final Label nameLabel;
@@ -68,4 +69,16 @@ public class PersonCardHandle extends NodeHandle<Node> {
                 .map(Label::getText)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Returns the style classes of the tag labels, other than the style class shared by all labels.
+     */
+    public List<List<String>> getTagStyleClasses() {
+        return tagLabels
+                .stream()
+                .map(label -> label.getStyleClass().stream()
+                        .filter(styleClass -> !styleClass.equals(LABEL_STYLE_CLASS))
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
 }
@@ -3,19 +3,22 @@ package guitests.guihandles;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import seedu.address.model.person.ReadOnlyPerson;
-import seedu.address.ui.PersonCard;
 
 /**
  * Provides a handle for {@code PersonListPanel} containing the list of {@code PersonCard}.
  */
-public class PersonListPanelHandle extends NodeHandle<ListView<PersonCard>> {
+public class PersonListPanelHandle extends NodeHandle<ListView<ReadOnlyPerson>> {
     public static final String PERSON_LIST_VIEW_ID = "#personListView";
 
-    private Optional<PersonCard> lastRememberedSelectedPersonCard;
+    private static final String CELL_STYLE_CLASS = ".list-cell";
 
-    public PersonListPanelHandle(ListView<PersonCard> personListPanelNode) {
+    private Optional<ReadOnlyPerson> lastRememberedSelectedPerson;
+    private int lastRememberedSelectedIndex;
+
+    public PersonListPanelHandle(ListView<ReadOnlyPerson> personListPanelNode) {
         super(personListPanelNode);
     }
 
@@ -25,13 +28,13 @@ public class PersonListPanelHandle extends NodeHandle<ListView<PersonCard>> {
      * @throws AssertionError if no card is selected, or more than 1 card is selected.
      */
     public PersonCardHandle getHandleToSelectedCard() {
-        List<PersonCard> personList = getRootNode().getSelectionModel().getSelectedItems();
+        List<ReadOnlyPerson> personList = getRootNode().getSelectionModel().getSelectedItems();
 
         if (personList.size() != 1) {
             throw new AssertionError("Person list size expected 1.");
         }
 
-        return new PersonCardHandle(personList.get(0).getRoot());
+        return getPersonCardHandle(getSelectedCardIndex());
     }
 
     /**
@@ -45,7 +48,7 @@ public class PersonListPanelHandle extends NodeHandle<ListView<PersonCard>> {
      * Returns true if a card is currently selected.
      */
     public boolean isAnyCardSelected() {
-        List<PersonCard> selectedCardsList = getRootNode().getSelectionModel().getSelectedItems();
+        List<ReadOnlyPerson> selectedCardsList = getRootNode().getSelectionModel().getSelectedItems();
 
         if (selectedCardsList.size() > 1) {
             throw new AssertionError("Card list size expected 0 or 1.");
@@ -58,36 +61,48 @@ public class PersonListPanelHandle extends NodeHandle<ListView<PersonCard>> {
      * Navigates the listview to display and select the person.
      */
     public void navigateToCard(ReadOnlyPerson person) {
-        List<PersonCard> cards = getRootNode().getItems();
-        Optional<PersonCard> matchingCard = cards.stream().filter(card -> card.person.equals(person)).findFirst();
-
-        if (!matchingCard.isPresent()) {
+        if (!getRootNode().getItems().contains(person)) {
             throw new IllegalArgumentException("Person does not exist.");
         }
 
         guiRobot.interact(() -> {
-            getRootNode().scrollTo(matchingCard.get());
-            getRootNode().getSelectionModel().select(matchingCard.get());
+            getRootNode().scrollTo(person);
+            getRootNode().getSelectionModel().select(person);
         });
         guiRobot.pauseForHuman();
     }
 
+    /**
+     * Navigates the listview to display the person at {@code index} in the list.
+     */
+    public void navigateToCard(int index) {
+        guiRobot.interact(() -> getRootNode().scrollTo(index));
+        guiRobot.pauseForHuman();
+    }
+
     /**
      * Returns the person card handle of a person associated with the {@code index} in the list.
+     * The person must be in one of the rows that are currently shown, since cards only exist for those rows.
      */
     public PersonCardHandle getPersonCardHandle(int index) {
-        return getPersonCardHandle(getRootNode().getItems().get(index).person);
+        Optional<PersonCardHandle> handle = getRootNode().lookupAll(CELL_STYLE_CLASS).stream()
+                .map(node -> (ListCell<?>) node)
+                .filter(cell -> cell.isVisible() && cell.getIndex() == index && cell.getGraphic() != null)
+                .map(cell -> new PersonCardHandle(cell.getGraphic()))
+                .findFirst();
+        return handle.orElseThrow(() -> new IllegalArgumentException("Person is not shown."));
     }
 
     /**
      * Returns the {@code PersonCardHandle} of the specified {@code person} in the list.
+     * @see #getPersonCardHandle(int)
      */
     public PersonCardHandle getPersonCardHandle(ReadOnlyPerson person) {
-        Optional<PersonCardHandle> handle = getRootNode().getItems().stream()
-                .filter(card -> card.person.equals(person))
-                .map(card -> new PersonCardHandle(card.getRoot()))
-                .findFirst();
-        return handle.orElseThrow(() -> new IllegalArgumentException("Person does not exist."));
+        int index = getRootNode().getItems().indexOf(person);
+        if (index < 0) {
+            throw new IllegalArgumentException("Person does not exist.");
+        }
+        return getPersonCardHandle(index);
     }
 
     /**
@@ -101,27 +116,29 @@ public class PersonListPanelHandle extends NodeHandle<ListView<PersonCard>> {
      * Remembers the selected {@code PersonCard} in the list.
      */
     public void rememberSelectedPersonCard() {
-        List<PersonCard> selectedItems = getRootNode().getSelectionModel().getSelectedItems();
+        List<ReadOnlyPerson> selectedItems = getRootNode().getSelectionModel().getSelectedItems();
 
         if (selectedItems.size() == 0) {
-            lastRememberedSelectedPersonCard = Optional.empty();
+            lastRememberedSelectedPerson = Optional.empty();
         } else {
-            lastRememberedSelectedPersonCard = Optional.of(selectedItems.get(0));
+            lastRememberedSelectedPerson = Optional.of(selectedItems.get(0));
+            lastRememberedSelectedIndex = getSelectedCardIndex();
         }
     }
 
     /**
      * Returns true if the selected {@code PersonCard} is different from the value remembered by the most recent
-     * {@code rememberSelectedPersonCard()} call.
+     * {@code rememberSelectedPersonCard()} call, i.e. if it displays a different person or a different index.
      */
     public boolean isSelectedPersonCardChanged() {
-        List<PersonCard> selectedItems = getRootNode().getSelectionModel().getSelectedItems();
+        List<ReadOnlyPerson> selectedItems = getRootNode().getSelectionModel().getSelectedItems();
 
         if (selectedItems.size() == 0) {
-            return lastRememberedSelectedPersonCard.isPresent();
+            return lastRememberedSelectedPerson.isPresent();
         } else {
-            return !lastRememberedSelectedPersonCard.isPresent()
-                    || !lastRememberedSelectedPersonCard.get().equals(selectedItems.get(0));
+            return !lastRememberedSelectedPerson.isPresent()
+                    || !lastRememberedSelectedPerson.get().equals(selectedItems.get(0))
+                    || lastRememberedSelectedIndex != getSelectedCardIndex();
         }
     }
 
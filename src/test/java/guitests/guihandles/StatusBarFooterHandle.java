@@ -12,9 +12,11 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
+    private static final String UNDO_HISTORY_STATUS_ID = "#undoHistoryStatus";
 
     private final StatusBar syncStatusNode;
     private final StatusBar saveLocationNode;
+    private final StatusBar undoHistoryNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -24,6 +26,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
         this.syncStatusNode = getChildNode(SYNC_STATUS_ID);
         this.saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
+        this.undoHistoryNode = getChildNode(UNDO_HISTORY_STATUS_ID);
     }
 
     /**
@@ -40,6 +43,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return saveLocationNode.getText();
     }
 
+    /**
+     * Returns the text of the undo history portion of the status bar.
+     */
+    public String getUndoHistoryStatus() {
+        return undoHistoryNode.getText();
+    }
+
     /**
      * Remembers the content of the sync status portion of the status bar.
      */
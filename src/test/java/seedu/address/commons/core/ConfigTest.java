@@ -16,7 +16,12 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : AB&B\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo history max depth : 100\n"
+                + "Undo history max bytes : 67108864\n"
+                + "Address book storage type : xml\n"
+                + "Address book file memory-mapped : false\n"
+                + "Parallel filter threshold : 10000";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
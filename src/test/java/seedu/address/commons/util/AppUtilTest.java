@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CancellationException;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,4 +47,21 @@ public class AppUtilTest {
         thrown.expectMessage(errorMessage);
         AppUtil.checkArgument(false,  errorMessage);
     }
+
+    @Test
+    public void checkNotInterrupted_notInterrupted_nothingHappens() {
+        AppUtil.checkNotInterrupted();
+    }
+
+    @Test
+    public void checkNotInterrupted_interrupted_throwsCancellationException() {
+        Thread.currentThread().interrupt();
+        try {
+            AppUtil.checkNotInterrupted();
+            throw new AssertionError("Expected a CancellationException");
+        } catch (CancellationException e) {
+            // the interrupt status is kept for the caller to see
+            assertTrue(Thread.interrupted());
+        }
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -135,6 +137,61 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by whitespace other than spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bb"));
+    }
+
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.toLowerCaseWords(null);
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        // No words
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(" \t "));
+
+        // One word
+        assertArrayEquals(new String[] {"abc"}, StringUtil.toLowerCaseWords("ABc"));
+
+        // Multiple words with extra whitespace
+        assertArrayEquals(new String[] {"aaa", "bbb", "c@1"}, StringUtil.toLowerCaseWords("  AAA \tbBb\n\nC@1 "));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance("abc", null);
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        // EP: equal strings
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+
+        // EP: one string empty
+        assertEquals(5, StringUtil.getEditDistance("", "alice"));
+        assertEquals(5, StringUtil.getEditDistance("alice", ""));
+
+        // EP: single edit
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alicee")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alike")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("alice", "Alice")); // case sensitive
+
+        // EP: several edits
+        assertEquals(2, StringUtil.getEditDistance("alice", "alcie")); // transposition
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.getEditDistance("sitting", "kitten"));
     }
 
     //---------------- Tests for getDetails --------------------------------------
@@ -1,9 +1,16 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 
@@ -94,4 +101,33 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
         assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
     }
+
+    @Test
+    public void getContext_sameClass_contextReused() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableAddressBook.class),
+                XmlUtil.getContext(XmlSerializableAddressBook.class));
+    }
+
+    @Test
+    public void saveDataToFile_concurrentSaves_dataSaved() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            File file = new File(TestUtil.getFilePathInSandboxFolder("tempAddressBook" + i + ".xml"));
+            AddressBook addressBook = new AddressBookBuilder(new AddressBook())
+                    .withPerson(new PersonBuilder().withName("Person " + (char) ('a' + i)).build()).build();
+            Callable<String> saveAndLoad = () -> {
+                file.createNewFile();
+                XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+                return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class).getPersonList().get(0)
+                        .getName().fullName;
+            };
+            results.add(executor.submit(saveAndLoad));
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("Person " + (char) ('a' + i), results.get(i).get());
+        }
+    }
 }
@@ -1,8 +1,22 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,6 +25,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -46,6 +61,116 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void searchNamesAsYouType_growingKeywords_narrowsList() {
+        model.resetData(getTypicalAddressBook());
+
+        logic.searchNamesAsYouType("m");
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), logic.getFilteredPersonList());
+
+        logic.searchNamesAsYouType("mei ");
+        assertEquals(Arrays.asList(BENSON, DANIEL), logic.getFilteredPersonList());
+
+        logic.searchNamesAsYouType("mei  BEN");
+        assertEquals(Collections.singletonList(BENSON), logic.getFilteredPersonList());
+
+        logic.searchNamesAsYouType("pa");
+        assertEquals(Collections.singletonList(ALICE), logic.getFilteredPersonList());
+
+        // words from the first field prefix on are ignored
+        logic.searchNamesAsYouType("mei t/friends p/9");
+        assertEquals(Arrays.asList(BENSON, DANIEL), logic.getFilteredPersonList());
+
+        // blank keywords show all persons
+        logic.searchNamesAsYouType(" ");
+        assertEquals(getTypicalAddressBook().getPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeInBackground_validCommand_reportsSuccess() throws Exception {
+        Logic backgroundLogic = new LogicManager(model, new UndoRedoStack(), Runnable::run);
+        OutcomeRecorder recorder = new OutcomeRecorder();
+        backgroundLogic.executeInBackground(ListCommand.COMMAND_WORD, recorder).get();
+        assertEquals(Collections.singletonList("success: " + ListCommand.MESSAGE_SUCCESS), recorder.outcomes);
+    }
+
+    @Test
+    public void executeInBackground_invalidCommand_reportsFailure() throws Exception {
+        Logic backgroundLogic = new LogicManager(model, new UndoRedoStack(), Runnable::run);
+        OutcomeRecorder recorder = new OutcomeRecorder();
+        backgroundLogic.executeInBackground("delete 9", recorder).get();
+        assertEquals(Collections.singletonList("failure: " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX),
+                recorder.outcomes);
+    }
+
+    @Test
+    public void executeInBackground_commandThrowsError_reportsFailure() throws Exception {
+        Model failingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public synchronized void sort() {
+                throw new AssertionError("sort failed");
+            }
+        };
+        Logic backgroundLogic = new LogicManager(failingModel, new UndoRedoStack(), Runnable::run);
+        OutcomeRecorder recorder = new OutcomeRecorder();
+        backgroundLogic.executeInBackground(SortCommand.COMMAND_WORD, recorder).get();
+        assertEquals(Collections.singletonList("failure: sort failed"), recorder.outcomes);
+
+        // later commands are still run and reported
+        backgroundLogic.executeInBackground(ListCommand.COMMAND_WORD, recorder).get();
+        assertEquals(Arrays.asList("failure: sort failed", "success: " + ListCommand.MESSAGE_SUCCESS),
+                recorder.outcomes);
+    }
+
+    @Test
+    public void executeInBackground_cancelledWhileRunning_reportsCancelledAndKeepsUndoHistory() throws Exception {
+        // a model whose sort is always cancelled, as if the command thread were interrupted while sorting
+        Model cancellingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public synchronized void sort() {
+                throw new CancellationException();
+            }
+        };
+        UndoRedoStack undoRedoStack = new UndoRedoStack();
+        Logic backgroundLogic = new LogicManager(cancellingModel, undoRedoStack, Runnable::run);
+        OutcomeRecorder recorder = new OutcomeRecorder();
+        backgroundLogic.executeInBackground(SortCommand.COMMAND_WORD, recorder).get();
+        assertEquals(Collections.singletonList("cancelled"), recorder.outcomes);
+        assertEquals(0, undoRedoStack.getUndoSize());
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), cancellingModel);
+    }
+
+    @Test
+    public void executeInBackground_cancelledBeforeStarting_reportsCancelledOnce() throws Exception {
+        Logic backgroundLogic = new LogicManager(model, new UndoRedoStack(), Runnable::run);
+
+        // holds up the command thread until the second command has been cancelled
+        CountDownLatch secondCommandCancelled = new CountDownLatch(1);
+        OutcomeRecorder blockingRecorder = new OutcomeRecorder() {
+            @Override
+            public void onSuccess(CommandResult result) {
+                super.onSuccess(result);
+                try {
+                    secondCommandCancelled.await();
+                } catch (InterruptedException ie) {
+                    throw new AssertionError("Interrupted while waiting for the second command", ie);
+                }
+            }
+        };
+        Future<?> firstCommand = backgroundLogic.executeInBackground(ListCommand.COMMAND_WORD, blockingRecorder);
+        OutcomeRecorder recorder = new OutcomeRecorder();
+        Future<?> secondCommand = backgroundLogic.executeInBackground(ListCommand.COMMAND_WORD, recorder);
+
+        assertTrue(secondCommand.cancel(true));
+        secondCommandCancelled.countDown();
+        firstCommand.get();
+        assertEquals(Collections.singletonList("cancelled"), recorder.outcomes);
+
+        // the cancelled command never ran, so it is not in the history
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, ListCommand.COMMAND_WORD),
+                backgroundLogic.execute(HistoryCommand.COMMAND_WORD).feedbackToUser);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -121,4 +246,26 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
         }
     }
+
+    /**
+     * Records the outcomes reported to it, in the order in which they are reported.
+     */
+    private static class OutcomeRecorder implements CommandCallback {
+        private final List<String> outcomes = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onSuccess(CommandResult result) {
+            outcomes.add("success: " + result.feedbackToUser);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            outcomes.add("failure: " + failure.getMessage());
+        }
+
+        @Override
+        public void onCancelled() {
+            outcomes.add("cancelled");
+        }
+    }
 }
@@ -84,6 +84,55 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_exceedsMaxDepth_oldestCommandsDiscarded() {
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack = new UndoRedoStack(2, Long.MAX_VALUE);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+        assertStackStatus(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandThree),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void push_exceedsMaxRetainedBytes_oldestCommandsDiscarded() {
+        SizedUndoableCommand smallCommand = new SizedUndoableCommand(10);
+        SizedUndoableCommand mediumCommand = new SizedUndoableCommand(50);
+        SizedUndoableCommand largeCommand = new SizedUndoableCommand(60);
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE, 100);
+
+        undoRedoStack.push(smallCommand);
+        undoRedoStack.push(mediumCommand);
+        assertEquals(60, undoRedoStack.getRetainedBytes());
+
+        // both older commands have to be discarded to stay within budget
+        undoRedoStack.push(largeCommand);
+        assertStackStatus(Collections.singletonList(largeCommand), Collections.emptyList());
+        assertEquals(60, undoRedoStack.getRetainedBytes());
+        assertEquals(1, undoRedoStack.getUndoSize());
+
+        // a command larger than the budget is kept on its own
+        SizedUndoableCommand overBudgetCommand = new SizedUndoableCommand(101);
+        undoRedoStack.push(overBudgetCommand);
+        assertStackStatus(Collections.singletonList(overBudgetCommand), Collections.emptyList());
+    }
+
+    @Test
+    public void push_singleCommandExceedsMaxRetainedBytes_commandKept() {
+        SizedUndoableCommand overBudgetCommand = new SizedUndoableCommand(101);
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE, 100);
+
+        undoRedoStack.push(overBudgetCommand);
+        assertStackStatus(Collections.singletonList(overBudgetCommand), Collections.emptyList());
+        assertEquals(101, undoRedoStack.getRetainedBytes());
+
+        // the over-budget command is discarded once a newer command is pushed
+        SizedUndoableCommand smallCommand = new SizedUndoableCommand(10);
+        undoRedoStack.push(smallCommand);
+        assertStackStatus(Collections.singletonList(smallCommand), Collections.emptyList());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -244,4 +293,17 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private final long retainedSize;
+
+        SizedUndoableCommand(long retainedSize) {
+            this.retainedSize = retainedSize;
+        }
+
+        @Override
+        public long getRetainedSizeEstimate() {
+            return retainedSize;
+        }
+    }
 }
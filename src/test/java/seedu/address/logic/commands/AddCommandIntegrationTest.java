@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -44,6 +45,21 @@ public class AddCommandIntegrationTest {
         assertCommandFailure(prepareCommand(personInList, model), model, AddCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void undo_personWithNewTag_addressBookRestored() throws Exception {
+        Person personWithNewTag = new PersonBuilder().withTags("colleagues").build();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        AddCommand addCommand = prepareCommand(personWithNewTag, model);
+        addCommand.execute();
+        addCommand.undo();
+        assertEquals(expectedModel, model);
+
+        expectedModel.addPerson(personWithNewTag);
+        addCommand.redo();
+        assertEquals(expectedModel, model);
+    }
+
     /**
      * Generates a new {@code AddCommand} which upon execution, adds {@code person} into the {@code model}.
      */
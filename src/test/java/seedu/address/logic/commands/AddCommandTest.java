@@ -7,6 +7,8 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,10 +22,14 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagPredicate;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -101,6 +107,22 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public boolean[] addPersons(List<? extends ReadOnlyPerson> persons) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void deleteTags(Set<Tag> tags) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlyAddressBook newData) {
             fail("This method should not be called.");
@@ -112,6 +134,21 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public void beginTransaction() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction(ReadOnlyAddressBook previousData) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -134,11 +171,31 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByTag(PersonHasTagPredicate predicate) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByNamePrefix(NameStartsWithKeywordsPredicate predicate) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByQuery(PersonQuery query) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void sort() {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void reorderPersons(List<? extends ReadOnlyPerson> order) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public ArrayList<String> getThemesList() {
             fail("This method should not be called");
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.BatchCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class BatchCommandTest {
+
+    private static final String ADD_AMY = PersonUtil.getAddCommand(AMY);
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final UndoRedoStack undoRedoStack = new UndoRedoStack();
+
+    @Test
+    public void execute_allCommandsSucceed_changesAnnouncedOnce() throws Exception {
+        BatchCommand batchCommand = prepareCommand(ADD_AMY + BatchCommand.COMMAND_SEPARATOR + " delete 1");
+        CommandResult result = batchCommand.execute();
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.feedbackToUser);
+        assertEquals(getExpectedModel(), model);
+    }
+
+    @Test
+    public void execute_commandFails_noChanges() throws Exception {
+        BatchCommand batchCommand = prepareCommand(ADD_AMY + BatchCommand.COMMAND_SEPARATOR + " delete 100");
+        try {
+            batchCommand.execute();
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, "delete 100",
+                    MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), ce.getMessage());
+        }
+
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void undoAndRedo_wholeBatch() throws Exception {
+        BatchCommand batchCommand = prepareCommand(ADD_AMY + BatchCommand.COMMAND_SEPARATOR + " delete 1");
+        batchCommand.execute();
+        undoRedoStack.push(batchCommand);
+        assertEquals(1, undoRedoStack.getUndoSize());
+
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, new CommandHistory(), undoRedoStack);
+        undoCommand.execute();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+
+        RedoCommand redoCommand = new RedoCommand();
+        redoCommand.setData(model, new CommandHistory(), undoRedoStack);
+        redoCommand.execute();
+        assertEquals(getExpectedModel(), model);
+    }
+
+    @Test
+    public void undoAndRedo_filteredList_samePersonsChanged() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(BENSON));
+        BatchCommand batchCommand = prepareCommand("delete 1");
+        batchCommand.execute();
+        undoRedoStack.push(batchCommand);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+
+        // undo shows all persons, so the first person listed is no longer BENSON
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, new CommandHistory(), undoRedoStack);
+        undoCommand.execute();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+
+        RedoCommand redoCommand = new RedoCommand();
+        redoCommand.setData(model, new CommandHistory(), undoRedoStack);
+        redoCommand.execute();
+        assertEquals(expectedModel, model);
+    }
+
+    /**
+     * Returns the model after adding {@code AMY} to, then deleting the first person from, the typical address book.
+     */
+    private Model getExpectedModel() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        return expectedModel;
+    }
+
+    /**
+     * Parses {@code args} into a {@code BatchCommand} with its data set.
+     */
+    private BatchCommand prepareCommand(String args) throws Exception {
+        BatchCommand batchCommand = new BatchCommandParser(new AddressBookParser()).parse(args);
+        batchCommand.setData(model, new CommandHistory(), undoRedoStack);
+        return batchCommand;
+    }
+}
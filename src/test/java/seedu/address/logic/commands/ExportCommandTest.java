@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showFirstPersonOnly;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.PersonFileFormat;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_listIsFiltered_exportsListedPersons() throws Exception {
+        showFirstPersonOnly(model);
+        Path file = testFolder.getRoot().toPath().resolve("contacts.csv");
+        CommandResult result = prepareCommand(file, PersonFileFormat.CSV).execute();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), result.feedbackToUser);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        // the header and the one person listed
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith(model.getFilteredPersonList().get(0).getName().fullName + ","));
+    }
+
+    @Test
+    public void execute_fileCannotBeWritten_throwsCommandException() throws Exception {
+        // a directory cannot be replaced by the exported file
+        Path directory = testFolder.newFolder("contacts.json").toPath();
+        Files.createFile(directory.resolve("existing"));
+        assertCommandFailure(prepareCommand(directory, PersonFileFormat.JSON), model,
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE_FILE, directory));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsv = new ExportCommand(Paths.get("contacts.csv"), PersonFileFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCsv.equals(exportCsv));
+
+        // same values -> returns true
+        assertTrue(exportCsv.equals(new ExportCommand(Paths.get("contacts.csv"), PersonFileFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(exportCsv.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCsv.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCsv.equals(new ExportCommand(Paths.get("others.csv"), PersonFileFormat.CSV)));
+    }
+
+    /**
+     * Returns an {@code ExportCommand} with parameters {@code file} and {@code format}.
+     */
+    private ExportCommand prepareCommand(Path file, PersonFileFormat format) {
+        ExportCommand command = new ExportCommand(file, format);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -49,6 +49,26 @@ public class FilterCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }
 
+    @Test
+    public void execute_allTagsOfGroup_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FilterCommand command = prepareCommand(Collections.singletonList(Arrays.asList("FRIENDS", "owesmoney")));
+        assertCommandSuccess(command, expectedMessage, Collections.singletonList(BENSON));
+    }
+
+    @Test
+    public void execute_anyTagGroup_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FilterCommand command = prepareCommand(Arrays.asList(Collections.singletonList("owesMoney"),
+                Collections.singletonList("colleagues")));
+        assertCommandSuccess(command, expectedMessage, Collections.singletonList(BENSON));
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        command = prepareCommand(Arrays.asList(Arrays.asList("owesMoney", "colleagues"),
+                Collections.singletonList("family")));
+        assertCommandSuccess(command, expectedMessage, Collections.emptyList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FilterCommand}.
      */
@@ -58,6 +78,15 @@ public class FilterCommandTest {
         return command;
     }
 
+    /**
+     * Creates a {@code FilterCommand} for persons with all the tags of any of {@code tagGroups}.
+     */
+    private FilterCommand prepareCommand(List<List<String>> tagGroups) {
+        FilterCommand command = new FilterCommand(new PersonHasTagPredicate(tagGroups));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+
     /**
      * Asserts that {@code command} is successfully executed, and<br>
      *     - the command feedback is equal to {@code expectedMessage}<br>
@@ -4,9 +4,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -22,6 +25,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.Field;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
@@ -71,6 +77,42 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ELLE, FIONA));
     }
 
+    @Test
+    public void execute_fuzzyKeywords_personsWithSimilarNamesFound() {
+        // "Meir~" is one edit away from "Meier", and "Meyer~2" is two edits away from it
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = prepareCommand("Meir~ Kurtz");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(BENSON, DANIEL));
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        command = prepareCommand("Meyer~2");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(BENSON, DANIEL, ELLE));
+    }
+
+    @Test
+    public void execute_query_personsMatchingEveryConditionFound() {
+        // Meiers with a phone number starting with 9
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = prepareCommand(new QueryCondition(Field.NAME, Collections.singletonList("Meier")),
+                new QueryCondition(Field.PHONE, Collections.singletonList("9*")));
+        assertCommandSuccess(command, expectedMessage, Collections.singletonList(BENSON));
+
+        // friends living on a street
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        command = prepareCommand(new QueryCondition(Field.TAG, Collections.singletonList("friends")),
+                new QueryCondition(Field.ADDRESS, Collections.singletonList("street")));
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, DANIEL, GEORGE));
+    }
+
+    /**
+     * Returns a {@code FindCommand} for the query of {@code conditions}.
+     */
+    private FindCommand prepareCommand(QueryCondition... conditions) {
+        FindCommand command = new FindCommand(new PersonQuery(Arrays.asList(conditions)));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommand}.
      */
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SizeEstimateUtil;
+import seedu.address.storage.PersonFileFormat;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,tags";
+    private static final String CSV_AMY = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",colleagues";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void undo_personsWithNewTagImported_addressBookRestored() throws Exception {
+        ReadOnlyPerson personInList = model.getAddressBook().getPersonList().get(0);
+        String csvDuplicate = String.format("%s,%s,%s,\"%s\",", personInList.getName(), personInList.getPhone(),
+                personInList.getEmail(), personInList.getAddress());
+        Path file = testFolder.getRoot().toPath().resolve("contacts.csv");
+        Files.write(file, Arrays.asList(CSV_HEADER, csvDuplicate, CSV_AMY), StandardCharsets.UTF_8);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        ImportCommand importCommand = prepareCommand(file, PersonFileFormat.CSV);
+        CommandResult result = importCommand.execute();
+        assertTrue(result.feedbackToUser.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)));
+        assertTrue(model.getAddressBook().getTagList().contains(new Tag("colleagues")));
+        Model importedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        // only the person imported, who is added at the end, is retained
+        List<ReadOnlyPerson> persons = model.getAddressBook().getPersonList();
+        assertEquals(SizeEstimateUtil.estimateSize(persons.get(persons.size() - 1)),
+                importCommand.getRetainedSizeEstimate());
+
+        // the persons imported and their new tags are removed, and the duplicate person is kept
+        importCommand.undo();
+        assertEquals(expectedModel, model);
+
+        importCommand.redo();
+        assertEquals(importedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("contacts.csv"), PersonFileFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(importCsv.equals(importCsv));
+
+        // same values -> returns true
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("contacts.csv"), PersonFileFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCsv.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsv.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsv.equals(new ImportCommand(Paths.get("others.csv"), PersonFileFormat.CSV)));
+    }
+
+    /**
+     * Returns an {@code ImportCommand} with parameters {@code file} and {@code format}.
+     */
+    private ImportCommand prepareCommand(Path file, PersonFileFormat format) {
+        ImportCommand command = new ImportCommand(file, format);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -9,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CancellationException;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,9 +31,15 @@ public class RedoCommandTest {
     private final DeleteCommand deleteCommandTwo = new DeleteCommand(INDEX_FIRST_PERSON);
 
     @Before
-    public void setUp() {
+    public void setUp() throws Exception {
         deleteCommandOne.setData(model, EMPTY_COMMAND_HISTORY, EMPTY_STACK);
         deleteCommandTwo.setData(model, EMPTY_COMMAND_HISTORY, EMPTY_STACK);
+
+        // commands are only redone after they have been executed and undone
+        deleteCommandOne.execute();
+        deleteCommandTwo.execute();
+        deleteCommandTwo.undo();
+        deleteCommandOne.undo();
     }
 
     @Test
@@ -52,4 +61,33 @@ public class RedoCommandTest {
         // no command in redoStack
         assertCommandFailure(redoCommand, model, RedoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_redoCancelled_commandCanStillBeRedone() throws Exception {
+        SortCommand sortCommand = new SortCommand();
+        sortCommand.setData(model, EMPTY_COMMAND_HISTORY, EMPTY_STACK);
+        sortCommand.execute();
+        sortCommand.undo();
+
+        // a model whose sort is always cancelled, as if the thread running it were interrupted
+        Model cancellingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public synchronized void sort() {
+                throw new CancellationException();
+            }
+        };
+        sortCommand.setData(cancellingModel, EMPTY_COMMAND_HISTORY, EMPTY_STACK);
+        UndoRedoStack undoRedoStack = prepareStack(Collections.emptyList(), Collections.singletonList(sortCommand));
+        RedoCommand redoCommand = new RedoCommand();
+        redoCommand.setData(cancellingModel, EMPTY_COMMAND_HISTORY, undoRedoStack);
+
+        try {
+            redoCommand.execute();
+            throw new AssertionError("Expected a CancellationException");
+        } catch (CancellationException ce) {
+            // expected
+        }
+        assertTrue(undoRedoStack.canRedo());
+        assertFalse(undoRedoStack.canUndo());
+    }
 }
@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -11,6 +16,8 @@ import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.AddressBookBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
@@ -34,5 +41,20 @@ public class SortCommandTest {
     public void execute_sortByName_success() {
         assertCommandSuccess(sortCommand, model, SortCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void undo_unsortedAddressBook_orderRestored() throws Exception {
+        List<ReadOnlyPerson> reversedPersons = getTypicalPersons();
+        Collections.reverse(reversedPersons);
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        reversedPersons.forEach(addressBookBuilder::withPerson);
+        model = new ModelManager(addressBookBuilder.build(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        sortCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+
+        sortCommand.execute();
+        sortCommand.undo();
+        assertEquals(expectedModel, model);
+    }
 }
 
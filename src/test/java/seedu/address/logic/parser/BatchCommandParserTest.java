@@ -0,0 +1,96 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandParserTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    private final BatchCommand expectedCommand = new BatchCommand(Arrays.asList("delete 1", "delete 2"),
+            Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_SECOND_PERSON)));
+
+    @Test
+    public void parse_separatedCommands_success() {
+        assertParseSuccess(parser, " delete 1" + BatchCommand.COMMAND_SEPARATOR + "  "
+                + BatchCommand.COMMAND_SEPARATOR + " delete 2 ", expectedCommand);
+    }
+
+    @Test
+    public void parse_escapedSeparatorInCommand_keptInCommand() throws Exception {
+        String address = "Blk 30" + BatchCommand.COMMAND_SEPARATOR + " #06-40";
+        Person person = new PersonBuilder().withAddress(address).build();
+        String addCommand = PersonUtil.getAddCommand(person).trim();
+        String escapedAddCommand = addCommand.replace(BatchCommand.COMMAND_SEPARATOR,
+                BatchCommand.ESCAPED_COMMAND_SEPARATOR);
+
+        assertParseSuccess(parser, escapedAddCommand + BatchCommand.COMMAND_SEPARATOR + " delete 1",
+                new BatchCommand(Arrays.asList(addCommand, "delete 1"),
+                        Arrays.asList(new AddCommand(person), new DeleteCommand(INDEX_FIRST_PERSON))));
+    }
+
+    @Test
+    public void parse_scriptFile_success() throws Exception {
+        File script = testFolder.newFile("script.txt");
+        FileUtil.writeToFile(script, BatchCommand.SCRIPT_COMMENT_MARKER + " remove the first two persons\n"
+                + "delete 1\n\n  delete 2\n");
+        assertParseSuccess(parser, " " + PREFIX_FILE + script.getPath(), expectedCommand);
+    }
+
+    @Test
+    public void parse_noCommands_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, BatchCommand.COMMAND_SEPARATOR + " " + BatchCommand.COMMAND_SEPARATOR,
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCommand_failure() {
+        assertParseFailure(parser, "delete 1" + BatchCommand.COMMAND_SEPARATOR + " delete x",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND, 2, "delete x",
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_commandNotBatchable_failure() {
+        assertParseFailure(parser, "delete 1" + BatchCommand.COMMAND_SEPARATOR + " list",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND, 2, "list",
+                        BatchCommandParser.MESSAGE_COMMAND_NOT_BATCHABLE));
+        assertParseFailure(parser, "undo",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND, 1, "undo",
+                        BatchCommandParser.MESSAGE_COMMAND_NOT_BATCHABLE));
+        assertParseFailure(parser, "batch delete 1",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND, 1, "batch delete 1",
+                        BatchCommandParser.MESSAGE_COMMAND_NOT_BATCHABLE));
+    }
+
+    @Test
+    public void parse_missingScriptFile_failure() {
+        String filePath = new File(testFolder.getRoot(), "missing.txt").getPath();
+        assertParseFailure(parser, PREFIX_FILE + filePath,
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_SCRIPT, filePath));
+    }
+}
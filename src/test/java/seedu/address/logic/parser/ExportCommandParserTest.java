@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.PersonFileFormat;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + " data/contacts.csv ",
+                new ExportCommand(Paths.get("data/contacts.csv"), PersonFileFormat.CSV));
+        assertParseSuccess(parser, " " + PREFIX_FILE + "my contacts.vcard",
+                new ExportCommand(Paths.get("my contacts.vcard"), PersonFileFormat.VCARD));
+        assertParseSuccess(parser, " " + PREFIX_FILE + "contacts.JSON",
+                new ExportCommand(Paths.get("contacts.JSON"), PersonFileFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " contacts.csv", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE, expectedMessage);
+        assertParseFailure(parser, " now " + PREFIX_FILE + "contacts.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_FILE + "contacts.xml", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_FILE + "contacts", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
@@ -4,6 +4,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.FilterCommand;
@@ -28,4 +31,27 @@ public class FilterCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n friends  \t", expectedFilterCommand);
     }
+
+    @Test
+    public void parse_multipleTags_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonHasTagPredicate(Arrays.asList(
+                Arrays.asList("friends", "colleagues"), Collections.singletonList("family"))));
+        assertParseSuccess(parser, "friends & colleagues family", expectedFilterCommand);
+
+        // no whitespace around operator
+        assertParseSuccess(parser, "friends&colleagues \t family", expectedFilterCommand);
+
+        // alternatives only
+        assertParseSuccess(parser, "friends family", new FilterCommand(new PersonHasTagPredicate(Arrays.asList(
+                Collections.singletonList("friends"), Collections.singletonList("family")))));
+    }
+
+    @Test
+    public void parse_misplacedOperator_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "& friends", expectedMessage);
+        assertParseFailure(parser, "friends &", expectedMessage);
+        assertParseFailure(parser, "friends & & family", expectedMessage);
+        assertParseFailure(parser, "&", expectedMessage);
+    }
 }
@@ -5,11 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.Field;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,28 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_prefixedArgs_returnsFindCommandWithQuery() {
+        // one condition per prefix, in the order of the prefixes
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(Arrays.asList(
+                new QueryCondition(Field.NAME, Arrays.asList("alex", "bob")),
+                new QueryCondition(Field.PHONE, Collections.singletonList("9123*")),
+                new QueryCondition(Field.TAG, Collections.singletonList("friends")),
+                new QueryCondition(Field.TAG, Collections.singletonList("colleagues")))));
+        assertParseSuccess(parser, " t/friends p/9123* n/alex  bob t/colleagues", expectedFindCommand);
+
+        // keywords before the first prefix are name keywords
+        expectedFindCommand = new FindCommand(new PersonQuery(Arrays.asList(
+                new QueryCondition(Field.NAME, Collections.singletonList("alex")),
+                new QueryCondition(Field.EMAIL, Collections.singletonList("alex@example.com")),
+                new QueryCondition(Field.ADDRESS, Collections.singletonList("clementi")))));
+        assertParseSuccess(parser, "alex e/alex@example.com a/clementi", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_emptyPrefixedArg_throwsParseException() {
+        assertParseFailure(parser, "n/alex t/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.PersonFileFormat;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + " data/contacts.csv ",
+                new ImportCommand(Paths.get("data/contacts.csv"), PersonFileFormat.CSV));
+        assertParseSuccess(parser, " " + PREFIX_FILE + "my contacts.VCF",
+                new ImportCommand(Paths.get("my contacts.VCF"), PersonFileFormat.VCARD));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " contacts.csv", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_FILE, expectedMessage);
+        assertParseFailure(parser, " now " + PREFIX_FILE + "contacts.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_unknownFormat_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_FILE + "contacts.xml", ImportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_FILE + "contacts", ImportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        // can only be exported to
+        assertParseFailure(parser, " " + PREFIX_FILE + "contacts.json", ImportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
@@ -1,24 +1,33 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -57,6 +66,45 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void addPersons_withDuplicates_duplicatesSkipped() {
+        addressBook.resetData(new AddressBookBuilder().withPerson(ALICE).build());
+        ReadOnlyPerson carlWithNewTag = new PersonBuilder(CARL).withTags("colleagues").build();
+        boolean[] isAdded = addressBook.addPersons(Arrays.asList(BENSON, ALICE, carlWithNewTag,
+                new PersonBuilder(BENSON).withTags("colleagues").build()));
+
+        assertArrayEquals(new boolean[] {true, false, true, false}, isAdded);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getPersonList());
+
+        // the master tag list only gains the tags of the persons added, and their tags are those in the list
+        Set<Tag> expectedTags = new HashSet<>(BENSON.getTags());
+        expectedTags.addAll(ALICE.getTags());
+        expectedTags.addAll(carlWithNewTag.getTags());
+        assertEquals(expectedTags, new HashSet<>(addressBook.getTagList()));
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                assertSame(addressBook.getTagList().get(addressBook.getTagList().indexOf(tag)), tag);
+            }
+        }
+    }
+
+    @Test
+    public void resetData_personsShown_tagsNotChangedAfterwards() {
+        ObservableList<ReadOnlyPerson> personList = addressBook.getPersonList();
+        List<ReadOnlyPerson> personsWithChangedTags = observeTagChangesOfAddedPersons(personList);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.emptyList(), personsWithChangedTags);
+    }
+
+    @Test
+    public void addPersons_personsShown_tagsNotChangedAfterwards() {
+        addressBook.resetData(new AddressBookBuilder().withPerson(ALICE).build());
+        ObservableList<ReadOnlyPerson> personList = addressBook.getPersonList();
+        List<ReadOnlyPerson> personsWithChangedTags = observeTagChangesOfAddedPersons(personList);
+        addressBook.addPersons(Arrays.asList(BENSON, new PersonBuilder(CARL).withTags("colleagues").build()));
+        assertEquals(Collections.emptyList(), personsWithChangedTags);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -69,6 +117,23 @@ public class AddressBookTest {
         addressBook.getTagList().remove(0);
     }
 
+    /**
+     * Returns the persons whose tags change after they are added to {@code personList}, the person list of
+     * {@code addressBook}, as the person list panel may show them as soon as they are added.
+     */
+    private List<ReadOnlyPerson> observeTagChangesOfAddedPersons(ObservableList<ReadOnlyPerson> personList) {
+        List<ReadOnlyPerson> personsWithChangedTags = new ArrayList<>();
+        personList.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                for (ReadOnlyPerson person : change.getAddedSubList()) {
+                    person.tagProperty().addListener((observable, oldValue, newValue) ->
+                            personsWithChangedTags.add(person));
+                }
+            }
+        });
+        return personsWithChangedTags;
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
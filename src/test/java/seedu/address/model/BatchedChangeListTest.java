@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class BatchedChangeListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5);
+    private final BatchedChangeList<Integer> batchedList = new BatchedChangeList<>(source);
+    // the elements of the list as its listener sees them, by applying every change it is notified of
+    private List<Integer> replayedList = new ArrayList<>(source);
+    private int changeCount;
+
+    @Before
+    public void setUp() {
+        batchedList.addListener((ListChangeListener<Integer>) change -> {
+            changeCount++;
+            replay(change);
+        });
+    }
+
+    @Test
+    public void sourceChanged_outsideBatch_announcedImmediately() {
+        source.remove(0);
+        assertEquals(1, changeCount);
+        assertEquals(source, replayedList);
+
+        source.add(6);
+        assertEquals(2, changeCount);
+        assertEquals(source, replayedList);
+    }
+
+    @Test
+    public void endBatch_changesMade_announcedInSingleChange() {
+        batchedList.beginBatch();
+        source.remove(Integer.valueOf(2));
+        source.add(0, 7);
+        source.set(2, 8);
+        FXCollections.sort(source);
+        source.add(9);
+        // the list holds the changes as they are made
+        assertEquals(source, batchedList);
+        assertEquals(0, changeCount);
+
+        batchedList.endBatch();
+        assertEquals(1, changeCount);
+        assertEquals(source, replayedList);
+    }
+
+    @Test
+    public void endBatch_nestedBatch_announcedAtOutermostEnd() {
+        batchedList.beginBatch();
+        source.remove(0);
+        batchedList.beginBatch();
+        source.add(6);
+        batchedList.endBatch();
+        assertEquals(0, changeCount);
+
+        batchedList.endBatch();
+        assertEquals(1, changeCount);
+        assertEquals(source, replayedList);
+    }
+
+    @Test
+    public void endBatch_noChanges_nothingAnnounced() {
+        batchedList.beginBatch();
+        batchedList.endBatch();
+        assertEquals(0, changeCount);
+    }
+
+    /**
+     * Applies {@code change} to {@code replayedList}.
+     */
+    private void replay(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(replayedList);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedList.get(i));
+                }
+                replayedList = permuted;
+            } else if (!change.wasUpdated()) {
+                replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
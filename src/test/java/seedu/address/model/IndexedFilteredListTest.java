@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+    private final IndexedFilteredList<Integer> filteredList = new IndexedFilteredList<>(source);
+    // the elements of the list as its listener sees them, by applying every change it is notified of
+    private List<Integer> replayedList = new ArrayList<>(source);
+
+    @Before
+    public void setUp() {
+        filteredList.addListener((ListChangeListener<Integer>) this::replay);
+    }
+
+    @Test
+    public void constructor_allElementsShown() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_matchingElementsShown() {
+        filteredList.setPredicate(IS_EVEN);
+        assertFilteredBy(IS_EVEN);
+    }
+
+    @Test
+    public void setMatches_elementsAtPositionsShownInSourceOrder() {
+        filteredList.setMatches(IS_EVEN, new int[] {5, 1, 3});
+        assertFilteredBy(IS_EVEN);
+    }
+
+    @Test
+    public void sourceChanged_afterSetMatches_onlyChangedElementsTested() {
+        filteredList.setMatches(IS_EVEN, new int[] {1, 3, 5});
+
+        // added
+        source.add(0, 8);
+        source.addAll(3, Arrays.asList(9, 10));
+        assertFilteredBy(IS_EVEN);
+
+        // removed
+        source.remove(Integer.valueOf(4));
+        source.removeAll(8, 10, 3);
+        assertFilteredBy(IS_EVEN);
+
+        // replaced
+        source.set(0, 12);
+        source.set(1, 7);
+        assertFilteredBy(IS_EVEN);
+
+        // permutated
+        FXCollections.sort(source);
+        FXCollections.reverse(source);
+        assertFilteredBy(IS_EVEN);
+
+        source.clear();
+        assertFilteredBy(IS_EVEN);
+    }
+
+    /**
+     * Asserts that the list, and the list seen by its listener, hold the elements of the source list matching
+     * {@code predicate}, in the same order.
+     */
+    private void assertFilteredBy(Predicate<Integer> predicate) {
+        List<Integer> expected = source.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, filteredList);
+        assertEquals(expected, replayedList);
+    }
+
+    /**
+     * Applies {@code change} to {@code replayedList}.
+     */
+    private void replay(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(replayedList);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedList.get(i));
+                }
+                replayedList = permuted;
+            } else if (!change.wasUpdated()) {
+                replayedList.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedList.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
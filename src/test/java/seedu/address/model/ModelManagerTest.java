@@ -1,24 +1,44 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.Field;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -62,4 +82,255 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookName("differentName");
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredPersonList_atParallelFilterThreshold_sameAsSequential() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        Predicate<ReadOnlyPerson> predicate = person -> person.getPhone().value.endsWith("7");
+
+        ModelManager expectedModel = new ModelManager(addressBook, new UserPrefs());
+        expectedModel.updateFilteredPersonList(predicate);
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs(), addressBook.getPersonList().size());
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(expectedModel, modelManager);
+        assertEquals(3 * ParallelFilterTask.CHUNK_SIZE / 10, modelManager.getFilteredPersonList().size());
+
+        // the filter is applied again to edited persons
+        ReadOnlyPerson target = modelManager.getFilteredPersonList().get(0);
+        ReadOnlyPerson editedPerson = new PersonBuilder(target).withPhone("91234560").build();
+        modelManager.updatePerson(target, editedPerson);
+        assertFalse(modelManager.getFilteredPersonList().contains(editedPerson));
+        modelManager.updatePerson(editedPerson, target);
+        assertTrue(modelManager.getFilteredPersonList().contains(target));
+    }
+
+    @Test
+    public void constructor_nonPositiveParallelFilterThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ModelManager(new AddressBook(), new UserPrefs(), 0);
+    }
+
+    @Test
+    public void updateFilteredPersonListByTag_sameAsPredicate() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .build();
+        PersonHasTagPredicate predicate = new PersonHasTagPredicate(Arrays.asList(
+                Arrays.asList("friends", "owesMoney"), Collections.singletonList("unused")));
+        ModelManager expectedModel = new ModelManager(addressBook, new UserPrefs());
+        expectedModel.updateFilteredPersonList(predicate);
+
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByTag(predicate);
+        assertEquals(expectedModel, modelManager);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personEdited_filterReapplied() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(new PersonQuery(Arrays.asList(
+                new QueryCondition(Field.TAG, Collections.singletonList("friends")),
+                new QueryCondition(Field.PHONE, Collections.singletonList("9*")))));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByNamePrefix_personEditedBetweenSearches_editedPersonFound() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByNamePrefix(
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("a")));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withName("Alfred Meier").build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // the narrower search must not reuse the result from before the edit
+        modelManager.updateFilteredPersonListByNamePrefix(
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("al")));
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPersons_changesAnnouncedOnce() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> false);
+
+        boolean[] isAdded = modelManager.addPersons(Arrays.asList(BENSON, ALICE, CARL));
+        assertTrue(isAdded[0] && !isAdded[1] && isAdded[2]);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_changesAnnouncedOnce() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        EventsCollectorRule.EventsCollector eventsCollector = eventsCollectorRule.eventsCollector;
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertTrue(eventsCollector.isEmpty());
+        modelManager.commitTransaction();
+        assertEquals(1, eventsCollector.getSize());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBook().getPersonList());
+
+        // nothing is announced if nothing changed
+        eventsCollector.reset();
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertTrue(eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_filteredListNotifiedOnce() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        ObservableList<ReadOnlyPerson> filteredList = modelManager.getFilteredPersonList();
+        int[] changeCount = {0};
+        filteredList.addListener((ListChangeListener<ReadOnlyPerson>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.sort();
+        // the list holds the changes as they are made
+        assertEquals(Arrays.asList(BENSON, CARL), filteredList);
+        assertEquals(0, changeCount[0]);
+
+        modelManager.commitTransaction();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(BENSON, CARL), filteredList);
+    }
+
+    @Test
+    public void sort_filteredList_filteredListNotifiedOnce() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(CARL).withPerson(BENSON)
+                .withPerson(ALICE).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> !person.equals(ALICE));
+        ObservableList<ReadOnlyPerson> filteredList = modelManager.getFilteredPersonList();
+        int[] changeCount = {0};
+        filteredList.addListener((ListChangeListener<ReadOnlyPerson>) change -> changeCount[0]++);
+
+        // sorts the persons, then shows all of them
+        modelManager.sort();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), filteredList);
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_changesUndoneSilently() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction(addressBook);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertEquals(new ModelManager(addressBook, new UserPrefs()), modelManager);
+
+        // changes after the transaction are announced as usual
+        modelManager.addPerson(BENSON);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void sort_interrupted_throwsCancellationExceptionAndKeepsOrder() {
+        AddressBook addressBook = getLargeAddressBook();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        List<ReadOnlyPerson> expectedOrder = new ArrayList<>(addressBook.getPersonList());
+
+        assertCancelledByInterrupt(modelManager::sort);
+        assertEquals(expectedOrder, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_interruptedAboveParallelFilterThreshold_filterUnchanged() {
+        AddressBook addressBook = getLargeAddressBook();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs(), addressBook.getPersonList().size());
+
+        assertCancelledByInterrupt(() -> modelManager.updateFilteredPersonList(person -> false));
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_interrupted_filterUnchanged() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        PersonQuery query = new PersonQuery(Collections.singletonList(
+                new QueryCondition(Field.PHONE, Collections.singletonList("91*"))));
+
+        assertCancelledByInterrupt(() -> modelManager.updateFilteredPersonListByQuery(query));
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+
+        // an edit while interrupted still succeeds, as only the edited person is tested against the query
+        modelManager.updateFilteredPersonListByQuery(new PersonQuery(Collections.singletonList(
+                new QueryCondition(Field.PHONE, Collections.singletonList("9*")))));
+        int shownCount = modelManager.getFilteredPersonList().size();
+        ReadOnlyPerson target = modelManager.getFilteredPersonList().get(0);
+        ReadOnlyPerson editedPerson = new PersonBuilder(target).withPhone("81234560").build();
+        Thread.currentThread().interrupt();
+        try {
+            modelManager.updatePerson(target, editedPerson);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertFalse(modelManager.getFilteredPersonList().contains(editedPerson));
+        assertEquals(shownCount - 1, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void resetData_interruptedWhileIndexedFilterRun_allPersonsShown() {
+        AddressBook addressBook = getLargeAddressBook();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(new PersonQuery(Collections.singletonList(
+                new QueryCondition(Field.PHONE, Collections.singletonList("9*")))));
+
+        Thread.currentThread().interrupt();
+        try {
+            modelManager.resetData(addressBook);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    /**
+     * Returns an address book with enough persons for filters to be split into several chunks and for long
+     * operations to check for interrupts while they run.
+     */
+    private static AddressBook getLargeAddressBook() {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        for (int i = 0; i < 3 * ParallelFilterTask.CHUNK_SIZE; i++) {
+            // added in reverse order of their names, so that sorting changes the order
+            addressBookBuilder.withPerson(new PersonBuilder().withName("Person " + (100000 - i))
+                    .withPhone("9" + (1000000 + i)).build());
+        }
+        return addressBookBuilder.build();
+    }
+
+    /**
+     * Runs {@code operation} with the current thread interrupted, and asserts that it throws a
+     * {@code CancellationException}. The interrupt is cleared afterwards.
+     */
+    private static void assertCancelledByInterrupt(Runnable operation) {
+        Thread.currentThread().interrupt();
+        try {
+            operation.run();
+            throw new AssertionError("Expected a CancellationException");
+        } catch (CancellationException ce) {
+            // expected
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
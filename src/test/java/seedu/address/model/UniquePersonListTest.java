@@ -1,19 +1,163 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
-        UniquePersonList uniquePersonList = new UniquePersonList();
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void contains_equivalentPerson_returnsTrue() throws Exception {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).build()));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new PersonBuilder(ALICE).build());
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() throws Exception {
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(ALICE);
+    }
+
+    @Test
+    public void remove_firstPerson_remainingPersonsStillFound() throws Exception {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(ALICE);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        // positions of the persons after the removed one must still be valid
+        uniquePersonList.setPerson(CARL, BOB);
+        assertEquals(BOB, uniquePersonList.asObservableList().get(1));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(getTypicalPersons().size() - 2, uniquePersonList.asObservableList().size());
+    }
+
+    @Test
+    public void setPerson_editedPersonIsDuplicate_throwsDuplicatePersonException() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, BENSON);
+    }
+
+    @Test
+    public void setPerson_success() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(Arrays.asList(BOB, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void getPersonsMatching_nameAfterChanges_matchesListContents() throws Exception {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(2, uniquePersonList.getPersonsMatching(nameQuery("meier")).size());
+
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.add(0, new PersonBuilder().withName("Carl Meier").build());
+        uniquePersonList.sort();
+
+        assertEquals(2, uniquePersonList.getPersonsMatching(nameQuery("meier")).size());
+        assertEquals(1, uniquePersonList.getPersonsMatching(nameQuery("carl")).size());
+        assertTrue(uniquePersonList.getPersonsMatching(nameQuery("kurz")).isEmpty());
+        // the persons found are the ones held by the list
+        assertTrue(uniquePersonList.getPersonsMatching(nameQuery("bob"))
+                .contains(uniquePersonList.asObservableList().get(1)));
+    }
+
+    @Test
+    public void sort_thenRemove_success() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(CARL, BOB, ALICE));
+        uniquePersonList.sort();
+        uniquePersonList.remove(BOB);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void sort_unsortedList_announcedAsSinglePermutation() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BENSON));
+        ObservableList<ReadOnlyPerson> personList = uniquePersonList.asObservableList();
+        List<Boolean> changesArePermutations = new ArrayList<>();
+        personList.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                changesArePermutations.add(change.wasPermutated());
+            }
+        });
+
+        uniquePersonList.sort();
+        assertEquals(Collections.singletonList(true), changesArePermutations);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), personList);
+    }
+
+    @Test
+    public void reorder_sortedList_announcedAsSinglePermutation() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        ObservableList<ReadOnlyPerson> personList = uniquePersonList.asObservableList();
+        List<Boolean> changesArePermutations = new ArrayList<>();
+        personList.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                changesArePermutations.add(change.wasPermutated());
+            }
+        });
+
+        uniquePersonList.reorder(Arrays.asList(CARL, ALICE, BENSON));
+        assertEquals(Collections.singletonList(true), changesArePermutations);
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), personList);
+
+        // the positions of the persons are recorded in their new order
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(CARL, BENSON), personList);
+    }
+
+    /**
+     * Returns a query for the persons with {@code word} in their name.
+     */
+    private PersonQuery nameQuery(String word) {
+        return new PersonQuery(Collections.singletonList(
+                new QueryCondition(QueryCondition.Field.NAME, Collections.singletonList(word))));
+    }
 }
@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 public class AddressTest {
@@ -18,4 +22,13 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("-")); // one character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
+
+    @Test
+    public void getWords() throws Exception {
+        Address address = new Address("Blk 456, Den Road, #01-355");
+        assertEquals(Arrays.asList("blk", "456,", "den", "road,", "#01-355"), address.getWords());
+
+        // the words are computed once
+        assertSame(address.getWords(), address.getWords());
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class NameKeywordTest {
+
+    @Test
+    public void parse_exactKeyword() {
+        NameKeyword keyword = NameKeyword.parse("Alice");
+        assertEquals("alice", keyword.word);
+        assertFalse(keyword.isFuzzy());
+
+        // marker not at the end, or with an unsupported number of edits
+        assertFalse(NameKeyword.parse("ali~ce").isFuzzy());
+        assertFalse(NameKeyword.parse("alice~9").isFuzzy());
+        assertFalse(NameKeyword.parse("~").isFuzzy());
+    }
+
+    @Test
+    public void parse_fuzzyKeyword() {
+        // default number of edits depends on length
+        assertEquals(0, NameKeyword.parse("Al~").maxDistance);
+        assertEquals(1, NameKeyword.parse("Alice~").maxDistance);
+        assertEquals(2, NameKeyword.parse("Alicia~").maxDistance);
+
+        // explicit number of edits
+        NameKeyword keyword = NameKeyword.parse("ALICE~2");
+        assertEquals("alice", keyword.word);
+        assertEquals(2, keyword.maxDistance);
+        assertTrue(keyword.isFuzzy());
+    }
+
+    @Test
+    public void matches() {
+        // exact
+        assertTrue(NameKeyword.parse("Alice").matches("alice"));
+        assertFalse(NameKeyword.parse("Alice").matches("alicia"));
+
+        // fuzzy
+        assertTrue(NameKeyword.parse("alcie~2").matches("alice"));
+        assertFalse(NameKeyword.parse("alcie~1").matches("alice"));
+        assertTrue(NameKeyword.parse("alce~").matches("alice"));
+        assertFalse(NameKeyword.parse("al~").matches("alice"));
+    }
+}
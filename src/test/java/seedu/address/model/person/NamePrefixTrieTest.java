@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NamePrefixTrieTest {
+
+    private final NamePrefixTrie trie = new NamePrefixTrie();
+
+    @Test
+    public void getPersonsWithWordStartingWith_prefixes_returnsMatchingPersons() {
+        trie.add(ALICE);
+        trie.add(BENSON);
+        trie.add(DANIEL);
+        trie.add(ELLE);
+
+        // prefix of words of several persons
+        assertEquals(3, trie.getPersonsWithWordStartingWith("M").size());
+        assertEquals(2, trie.getPersonsWithWordStartingWith("mei").size());
+
+        // whole word, different case
+        assertEquals(Collections.singleton(ALICE), trie.getPersonsWithWordStartingWith("PAULINE"));
+
+        // empty prefix matches every person
+        assertEquals(4, trie.getPersonsWithWordStartingWith("").size());
+
+        // longer than any word, or not the start of a word
+        assertTrue(trie.getPersonsWithWordStartingWith("meiers").isEmpty());
+        assertTrue(trie.getPersonsWithWordStartingWith("eier").isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFoundAndOthersKept() {
+        ReadOnlyPerson meiers = new PersonBuilder().withName("Meiers Meier").build();
+        trie.add(BENSON);
+        trie.add(meiers);
+
+        trie.remove(meiers);
+        assertEquals(Collections.singleton(BENSON), trie.getPersonsWithWordStartingWith("mei"));
+        assertTrue(trie.getPersonsWithWordStartingWith("meiers").isEmpty());
+
+        trie.remove(BENSON);
+        assertTrue(trie.getPersonsWithWordStartingWith("").isEmpty());
+
+        // removing a person that is not in the trie does nothing
+        trie.remove(ALICE);
+        assertTrue(trie.getPersonsWithWordStartingWith("").isEmpty());
+    }
+
+    @Test
+    public void setAll_otherTrie_copiesContents() {
+        NamePrefixTrie other = new NamePrefixTrie();
+        other.add(ALICE);
+        trie.add(BENSON);
+
+        trie.setAll(other);
+        other.remove(ALICE);
+
+        Set<ReadOnlyPerson> matches = trie.getPersonsWithWordStartingWith("");
+        assertEquals(Collections.singleton(ALICE), matches);
+    }
+}
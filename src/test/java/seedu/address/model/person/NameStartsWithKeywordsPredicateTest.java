@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void test_everyKeywordStartsAWord_returnsTrue() {
+        // whole word
+        NameStartsWithKeywordsPredicate predicate =
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("Alice"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // starts of several words, mixed case
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("aL", "bO"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // keywords starting the same word
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("A", "Ali"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_someKeywordDoesNotStartAWord_returnsFalse() {
+        // only one keyword matches
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("Al", "Ca"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // keyword in the middle of a word
+        predicate = new NameStartsWithKeywordsPredicate(Collections.singletonList("lic"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("ali", "bo"));
+
+        // keywords extended or added -> returns true
+        assertTrue(new NameStartsWithKeywordsPredicate(Arrays.asList("alic", "bo")).isNarrowerThan(predicate));
+        assertTrue(new NameStartsWithKeywordsPredicate(Arrays.asList("ALI", "bob", "c")).isNarrowerThan(predicate));
+
+        // keyword removed or changed -> returns false
+        assertFalse(new NameStartsWithKeywordsPredicate(Collections.singletonList("ali")).isNarrowerThan(predicate));
+        assertFalse(new NameStartsWithKeywordsPredicate(Arrays.asList("al", "bo")).isNarrowerThan(predicate));
+    }
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("ali", "bo"));
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NameStartsWithKeywordsPredicate(Arrays.asList("ali", "bo"))));
+        assertFalse(predicate.equals(1));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new NameStartsWithKeywordsPredicate(Collections.singletonList("ali"))));
+    }
+}
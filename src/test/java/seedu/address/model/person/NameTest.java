@@ -1,8 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 public class NameTest {
@@ -22,4 +26,13 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getWords() throws Exception {
+        Name name = new Name("  Peter  the 2nd");
+        assertEquals(Arrays.asList("peter", "the", "2nd"), name.getWords());
+
+        // the words are computed once
+        assertSame(name.getWords(), name.getWords());
+    }
 }
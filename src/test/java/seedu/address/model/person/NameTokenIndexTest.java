@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void getPersonsWithAnyWord_matchingWords_returnsPersons() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        // one word
+        assertEquals(Collections.singleton(ALICE), index.getPersonsWithAnyWord(Collections.singletonList("Alice")));
+
+        // word shared by several persons
+        assertEquals(2, index.getPersonsWithAnyWord(Collections.singletonList("Meier")).size());
+
+        // several words, mixed case
+        Set<ReadOnlyPerson> matches = index.getPersonsWithAnyWord(Arrays.asList("pAULINE", "daniel"));
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(ALICE));
+        assertTrue(matches.contains(DANIEL));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_partialOrUnknownWords_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.getPersonsWithAnyWord(Collections.emptyList()).isEmpty());
+        assertTrue(index.getPersonsWithAnyWord(Arrays.asList("Ali", "Bob")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_equalPersons_comparedByIdentity() {
+        ReadOnlyPerson aliceCopy = new PersonBuilder(ALICE).build();
+        index.add(ALICE);
+        index.add(aliceCopy);
+        assertEquals(2, index.getPersonsWithAnyWord(Collections.singletonList("alice")).size());
+
+        index.remove(ALICE);
+        Set<ReadOnlyPerson> matches = index.getPersonsWithAnyWord(Collections.singletonList("alice"));
+        assertEquals(1, matches.size());
+        assertTrue(matches.iterator().next() == aliceCopy);
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertTrue(index.getPersonsWithAnyWord(Arrays.asList("alice", "pauline")).isEmpty());
+        assertEquals(Collections.singleton(BENSON), index.getPersonsWithAnyWord(Collections.singletonList("meier")));
+
+        // removing a person that is not in the index does nothing
+        index.remove(DANIEL);
+        assertEquals(Collections.singleton(BENSON), index.getPersonsWithAnyWord(Collections.singletonList("meier")));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_fuzzyKeywords_returnsPersonsWithSimilarWords() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        assertEquals(Collections.singleton(ALICE), index.getPersonsWithAnyWord(Collections.singletonList("alcie~2")));
+        assertEquals(2, index.getPersonsWithAnyWord(Collections.singletonList("MEIR~")).size());
+        assertTrue(index.getPersonsWithAnyWord(Collections.singletonList("alcie~1")).isEmpty());
+
+        // removed persons are not found, even though their words are still in the tree
+        index.remove(ALICE);
+        assertTrue(index.getPersonsWithAnyWord(Collections.singletonList("alcie~2")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_manyPersonsRemoved_fuzzyKeywordsStillMatch() {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(new PersonBuilder().withName("Person" + i + " Meier").build());
+        }
+        persons.forEach(index::add);
+        index.add(BENSON);
+        persons.forEach(index::remove);
+
+        assertEquals(Collections.singleton(BENSON), index.getPersonsWithAnyWord(Collections.singletonList("meir~")));
+        assertTrue(index.getPersonsWithAnyWord(Collections.singletonList("person12~")).isEmpty());
+    }
+
+    @Test
+    public void setAll_otherIndex_copiesPostings() {
+        NameTokenIndex other = new NameTokenIndex();
+        other.add(BENSON);
+        index.add(ALICE);
+
+        index.setAll(other);
+        other.clear();
+
+        assertTrue(index.getPersonsWithAnyWord(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singleton(BENSON), index.getPersonsWithAnyWord(Collections.singletonList("benson")));
+    }
+}
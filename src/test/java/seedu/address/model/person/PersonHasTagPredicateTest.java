@@ -3,12 +3,20 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonHasTagPredicateTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void test_personHasTag_returnsTrue() {
         //person has only one tag
@@ -39,6 +47,30 @@ public class PersonHasTagPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
     }
 
+    @Test
+    public void test_tagGroups() {
+        PersonHasTagPredicate predicate = new PersonHasTagPredicate(Arrays.asList(
+                Arrays.asList("friends", "COLLEAGUES"), Collections.singletonList("family")));
+
+        // has all tags of the first group
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues", "friends", "neighbours").build()));
+
+        // has all tags of the second group
+        assertTrue(predicate.test(new PersonBuilder().withTags("Family").build()));
+
+        // has only some tags of the first group
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "neighbours").build()));
+
+        // no tags
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void constructor_emptyTagGroup_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new PersonHasTagPredicate(Arrays.asList(Collections.singletonList("friends"), Collections.emptyList()));
+    }
+
     @Test
     public void equals() throws Exception {
         String firstPredicateKeyword = new String("first");
@@ -62,5 +94,13 @@ public class PersonHasTagPredicateTest {
 
         // different tags -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same tags in a different case -> returns true
+        assertTrue(firstPredicate.equals(new PersonHasTagPredicate("FIRST")));
+
+        // same tags in different groups -> returns false
+        assertFalse(new PersonHasTagPredicate(Collections.singletonList(Arrays.asList("first", "second")))
+                .equals(new PersonHasTagPredicate(Arrays.asList(Collections.singletonList("first"),
+                        Collections.singletonList("second")))));
     }
 }
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.QueryCondition.Field;
+import seedu.address.testutil.TypicalPersons;
+
+public class PersonQueryPlanTest {
+
+    private final List<ReadOnlyPerson> persons = TypicalPersons.getTypicalPersons();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final NamePrefixTrie namePrefixTrie = new NamePrefixTrie();
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Before
+    public void setUp() {
+        for (ReadOnlyPerson person : persons) {
+            nameIndex.add(person);
+            namePrefixTrie.add(person);
+            tagIndex.add(person);
+        }
+    }
+
+    @Test
+    public void constructor_indexedConditions_looksUpLeastMatchingCondition() {
+        // every typical person is a friend, but only two are called Meier
+        QueryCondition friends = new QueryCondition(Field.TAG, Collections.singletonList("friends"));
+        QueryCondition meier = new QueryCondition(Field.NAME, Collections.singletonList("Meier"));
+        PersonQueryPlan plan = plan(friends, meier);
+        assertEquals(Optional.of(meier), plan.getLookup());
+        assertEquals(Collections.singletonList(friends), plan.getChecks());
+
+        // only one typical person owes money
+        QueryCondition owesMoney = new QueryCondition(Field.TAG, Collections.singletonList("owesMoney"));
+        plan = plan(meier, owesMoney);
+        assertEquals(Optional.of(owesMoney), plan.getLookup());
+        assertEquals(Collections.singletonList(meier), plan.getChecks());
+    }
+
+    @Test
+    public void constructor_noIndexedConditions_checksCheapSelectiveConditionsFirst() {
+        QueryCondition addressPrefix = new QueryCondition(Field.ADDRESS, Collections.singletonList("street*"));
+        QueryCondition phone = new QueryCondition(Field.PHONE, Collections.singletonList("95352563"));
+        QueryCondition tagPrefix = new QueryCondition(Field.TAG, Collections.singletonList("friend*"));
+        PersonQueryPlan plan = plan(addressPrefix, tagPrefix, phone);
+        assertFalse(plan.getLookup().isPresent());
+        assertEquals(Arrays.asList(phone, tagPrefix, addressPrefix), plan.getChecks());
+    }
+
+    @Test
+    public void execute_sameAsTestingEveryPerson() {
+        assertSameAsQuery(new QueryCondition(Field.NAME, Arrays.asList("Meier", "kurz")),
+                new QueryCondition(Field.PHONE, Collections.singletonList("9*")));
+        assertSameAsQuery(new QueryCondition(Field.NAME, Arrays.asList("Mei*", "Kunz")),
+                new QueryCondition(Field.TAG, Collections.singletonList("friends")));
+        assertSameAsQuery(new QueryCondition(Field.NAME, Collections.singletonList("Meyer~2")),
+                new QueryCondition(Field.ADDRESS, Collections.singletonList("street")));
+        assertSameAsQuery(new QueryCondition(Field.TAG, Arrays.asList("owesMoney", "family")),
+                new QueryCondition(Field.EMAIL, Collections.singletonList("johnd@*")));
+        assertSameAsQuery(new QueryCondition(Field.EMAIL, Collections.singletonList("nobody@example.com")));
+        assertSameAsQuery();
+    }
+
+    private PersonQueryPlan plan(QueryCondition... conditions) {
+        return new PersonQueryPlan(new PersonQuery(Arrays.asList(conditions)), persons.size(), nameIndex,
+                namePrefixTrie, tagIndex);
+    }
+
+    /**
+     * Asserts that the plan for the query of {@code conditions} finds the same persons as testing every person
+     * against the query.
+     */
+    private void assertSameAsQuery(QueryCondition... conditions) {
+        PersonQuery query = new PersonQuery(Arrays.asList(conditions));
+        Set<ReadOnlyPerson> expected = persons.stream().filter(query).collect(Collectors.toSet());
+        assertEquals(expected, plan(conditions).execute(persons));
+    }
+}
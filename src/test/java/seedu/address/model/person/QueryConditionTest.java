@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.person.QueryCondition.Field;
+
+public class QueryConditionTest {
+
+    @Test
+    public void equals() {
+        QueryCondition firstCondition = new QueryCondition(Field.NAME, Collections.singletonList("first"));
+
+        // same object -> returns true
+        assertTrue(firstCondition.equals(firstCondition));
+
+        // same values -> returns true
+        assertTrue(firstCondition.equals(new QueryCondition(Field.NAME, Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstCondition.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCondition.equals(null));
+
+        // different field -> returns false
+        assertFalse(firstCondition.equals(new QueryCondition(Field.TAG, Collections.singletonList("first"))));
+
+        // different terms -> returns false
+        assertFalse(firstCondition.equals(new QueryCondition(Field.NAME, Collections.singletonList("second"))));
+    }
+
+    @Test
+    public void test_name() {
+        // one of the words, ignoring case
+        assertTrue(new QueryCondition(Field.NAME, Arrays.asList("bob", "PAULINE")).test(ALICE));
+        assertFalse(new QueryCondition(Field.NAME, Collections.singletonList("Paul")).test(ALICE));
+
+        // start of a word
+        assertTrue(new QueryCondition(Field.NAME, Collections.singletonList("Paul*")).test(ALICE));
+        assertFalse(new QueryCondition(Field.NAME, Collections.singletonList("line*")).test(ALICE));
+
+        // fuzzy
+        assertTrue(new QueryCondition(Field.NAME, Collections.singletonList("Alcie~2")).test(ALICE));
+
+        // no terms
+        assertFalse(new QueryCondition(Field.NAME, Collections.emptyList()).test(ALICE));
+    }
+
+    @Test
+    public void test_phoneAndEmail() {
+        assertTrue(new QueryCondition(Field.PHONE, Collections.singletonList("85355255")).test(ALICE));
+        assertFalse(new QueryCondition(Field.PHONE, Collections.singletonList("8535")).test(ALICE));
+        assertTrue(new QueryCondition(Field.PHONE, Collections.singletonList("8535*")).test(ALICE));
+        assertFalse(new QueryCondition(Field.PHONE, Collections.singletonList("5255*")).test(ALICE));
+
+        assertTrue(new QueryCondition(Field.EMAIL, Collections.singletonList("ALICE@example.com")).test(ALICE));
+        assertTrue(new QueryCondition(Field.EMAIL, Collections.singletonList("Alice@*")).test(ALICE));
+        assertFalse(new QueryCondition(Field.EMAIL, Collections.singletonList("alice")).test(ALICE));
+    }
+
+    @Test
+    public void test_address() {
+        // ALICE lives at "123, Jurong West Ave 6, #08-111"
+        assertTrue(new QueryCondition(Field.ADDRESS, Collections.singletonList("JURONG")).test(ALICE));
+        assertTrue(new QueryCondition(Field.ADDRESS, Collections.singletonList("#08*")).test(ALICE));
+        assertFalse(new QueryCondition(Field.ADDRESS, Collections.singletonList("Jur")).test(ALICE));
+    }
+
+    @Test
+    public void test_tag() {
+        assertTrue(new QueryCondition(Field.TAG, Collections.singletonList("OWESMONEY")).test(BENSON));
+        assertTrue(new QueryCondition(Field.TAG, Collections.singletonList("owes*")).test(BENSON));
+        assertFalse(new QueryCondition(Field.TAG, Collections.singletonList("owes")).test(BENSON));
+        assertFalse(new QueryCondition(Field.TAG, Collections.singletonList("owesMoney")).test(ALICE));
+    }
+}
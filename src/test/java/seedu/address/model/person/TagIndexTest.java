@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void getPersonsWithAllTags_oneTag_returnsTaggedPersons() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertEquals(3, index.getPersonsWithAllTags(Collections.singletonList("friends")).size());
+        assertEquals(Collections.singleton(BENSON),
+                index.getPersonsWithAllTags(Collections.singletonList("OWESMONEY")));
+        assertTrue(index.getPersonsWithAllTags(Collections.singletonList("family")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAllTags_severalTags_returnsPersonsWithAllOfThem() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        assertEquals(Collections.singleton(BENSON), index.getPersonsWithAllTags(Arrays.asList("friends", "owesMoney")));
+        assertTrue(index.getPersonsWithAllTags(Arrays.asList("friends", "family")).isEmpty());
+        assertTrue(index.getPersonsWithAllTags(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(BENSON);
+
+        assertEquals(Collections.singleton(ALICE), index.getPersonsWithAllTags(Collections.singletonList("friends")));
+        assertTrue(index.getPersonsWithAllTags(Collections.singletonList("owesMoney")).isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class WordBkTreeTest {
+
+    private final WordBkTree tree = new WordBkTree();
+
+    @Test
+    public void getWordsWithin_emptyTree_noWords() {
+        assertTrue(tree.getWordsWithin("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        tree.add("alice");
+        tree.add("alice");
+        assertEquals(1, tree.size());
+        assertEquals(Collections.singletonList("alice"), tree.getWordsWithin("alice", 0));
+    }
+
+    @Test
+    public void getWordsWithin_sameAsBruteForceScan() {
+        Random random = new Random(42);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < 2000) {
+            words.add(randomWord(random));
+        }
+        words.forEach(tree::add);
+        assertEquals(words.size(), tree.size());
+
+        for (String query : Arrays.asList("abcd", "bad", "cabbage", "d", randomWord(random), randomWord(random))) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                List<String> expected = new ArrayList<>();
+                for (String word : words) {
+                    if (StringUtil.getEditDistance(query, word) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                List<String> actual = tree.getWordsWithin(query, maxDistance);
+                Collections.sort(expected);
+                Collections.sort(actual);
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Returns a word of 1 to 8 letters from a small alphabet, so that many words are close to each other.
+     */
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(5)));
+        }
+        return word.toString();
+    }
+}
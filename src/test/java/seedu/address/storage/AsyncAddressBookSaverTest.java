@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void constructor_maxLatencyLessThanDebounce_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AsyncAddressBookSaver(new AddressBookStorageRecorder(), failures::add, 100, 50);
+    }
+
+    @Test
+    public void submit_burstOfChanges_onlyLatestSaved() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new AddressBookStorageRecorder(), failures::add,
+                10000, 10000);
+        AddressBook latest = new AddressBook();
+        saver.submit(new AddressBook());
+        saver.submit(new AddressBook());
+        saver.submit(latest);
+        saver.flush();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertSame(latest, savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void submit_afterMaxLatency_savedWithoutFlush() throws Exception {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new AddressBookStorageRecorder(), failures::add,
+                0, 0);
+        saver.submit(new AddressBook());
+
+        for (int i = 0; i < 100 && savedAddressBooks.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_nothingSubmitted_nothingSaved() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new AddressBookStorageRecorder(), failures::add);
+        saver.flush();
+        assertTrue(savedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void flush_saveFails_failureHandled() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new AddressBookStorageRecorder() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        }, failures::add);
+        saver.submit(new AddressBook());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+    }
+
+    /**
+     * An AddressBookStorage that records the address books it is asked to save.
+     */
+    private class AddressBookStorageRecorder extends XmlAddressBookStorage {
+        AddressBookStorageRecorder() {
+            super("dummy");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            savedAddressBooks.add(addressBook);
+        }
+    }
+}
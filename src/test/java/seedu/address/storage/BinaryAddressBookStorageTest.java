@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryOrXmlFormat_exceptionThrown() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml";
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryFileStorage.isBinaryFile(new File(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(new Person(HOON));
+        original.removePerson(new Person(ALICE));
+        original.addPerson(new PersonBuilder(IDA).withAddress("spaced   out address ").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAndConvertedOnSave() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertTrue(BinaryFileStorage.isBinaryFile(new File(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_sameAsStreamed() throws Exception {
+        String filePath = getTempFilePath("MappedAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // a memory-mapped file can still be replaced while its previous contents are being read
+        original.removePerson(new Person(ALICE));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameData() throws Exception {
+        File xmlFile = new File(getTempFilePath("original.xml"));
+        File binaryFile = new File(getTempFilePath("converted.bin"));
+        File convertedXmlFile = new File(getTempFilePath("converted.xml"));
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(xmlFile.getPath()).saveAddressBook(original);
+
+        BinaryFileStorage.convertFromXml(xmlFile, binaryFile);
+        BinaryFileStorage.convertToXml(binaryFile, convertedXmlFile);
+
+        assertEquals(original, new AddressBook(BinaryFileStorage.loadDataFromSaveFile(binaryFile)));
+        assertEquals(original, new AddressBook(XmlStreamFileStorage.loadDataFromSaveFile(convertedXmlFile)));
+        assertTrue(binaryFile.length() < xmlFile.length());
+    }
+
+    @Test
+    public void loadDataFromStream_newerVersion_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryFileStorage.saveDataToStream(out, new AddressBookBuilder().withTag("friends").build());
+        byte[] data = out.toByteArray();
+        data[4] = (byte) (BinaryFileStorage.FORMAT_VERSION + 1);
+
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadDataFromStream(new ByteArrayInputStream(data));
+    }
+
+    @Test
+    public void loadDataFromStream_truncated_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryFileStorage.saveDataToStream(out, getTypicalAddressBook());
+        byte[] data = out.toByteArray();
+
+        thrown.expect(DataConversionException.class);
+        BinaryFileStorage.loadDataFromStream(new ByteArrayInputStream(data, 0, data.length / 2));
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath("missing.xml")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // first save writes a snapshot
+        storage.saveAddressBook(original);
+        long snapshotModified = new File(filePath).lastModified();
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // add, edit, delete, sort and clear are appended to the journal
+        original.addPerson(HOON);
+        original.addPerson(0, IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        original.updatePerson(ALICE, editedAlice);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        original.sort();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        assertEquals(snapshotModified, new File(filePath).lastModified());
+        assertTrue(new File(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX).exists());
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_journalContinued() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(AMY);
+        storage.saveAddressBook(readBack);
+
+        assertTrue(new File(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sortedAfterRead_onlyOrderJournaled() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(0, IDA);
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        // the address book holds copies of the persons read
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.sort();
+        storage.saveAddressBook(readBack);
+
+        List<String> journal = Files.readAllLines(
+                new File(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX).toPath(), StandardCharsets.UTF_8);
+        assertEquals(1, journal.size());
+        assertTrue(journal.get(0).contains("SORT"));
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsThreshold_compacted() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(original);
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+
+        waitForCompaction(filePath);
+        assertFalse(new File(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+
+        // changes after the compaction are journaled again
+        original.addPerson(BOB);
+        storage.saveAddressBook(original);
+        waitForCompaction(filePath);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenLastEntry_entryIgnored() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(AMY);
+        storage.saveAddressBook(original);
+        appendToFile(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX, "{\"type\":\"ADD\",\"ind");
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the damaged journal is replaced by a fresh snapshot on the next save
+        original.addPerson(BOB);
+        reopened.saveAddressBook(original);
+        assertFalse(new File(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        appendToFile(filePath + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX,
+                "{\"type\":\"DELETE\",\"index\":100,\"count\":1}\n{\"type\":\"CLEAR\"}\n");
+
+        thrown.expect(DataConversionException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recovered() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        // the compacted snapshot was written completely before the compacting journal was deleted
+        new XmlAddressBookStorage(filePath + JournalAddressBookStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX)
+                .saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(new File(filePath + JournalAddressBookStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX).exists());
+
+        // the compacted snapshot may be incomplete as the compacting journal is still there
+        appendToFile(filePath + JournalAddressBookStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX, "<addressbook>");
+        appendToFile(filePath + JournalAddressBookStorage.COMPACTING_JOURNAL_FILE_SUFFIX,
+                "{\"type\":\"CLEAR\"}\n{\"type\":\"TAGS\",\"tags\":[]}\n");
+        assertEquals(new AddressBook(),
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(new File(filePath + JournalAddressBookStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX).exists());
+    }
+
+    /**
+     * Waits for the compaction of the journal at {@code filePath} to complete.
+     */
+    private void waitForCompaction(String filePath) throws InterruptedException {
+        File compactingJournal = new File(filePath + JournalAddressBookStorage.COMPACTING_JOURNAL_FILE_SUFFIX);
+        File compactedSnapshot = new File(filePath + JournalAddressBookStorage.COMPACTED_SNAPSHOT_FILE_SUFFIX);
+        for (int i = 0; i < 100 && (compactingJournal.exists() || compactedSnapshot.exists()); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(compactingJournal.exists());
+        assertFalse(compactedSnapshot.exists());
+    }
+
+    private void appendToFile(String filePath, String content) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(filePath, true)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalEntryTest {
+
+    private final List<Tag> noTags = Collections.emptyList();
+
+    @Test
+    public void changesBetween_noChanges_noEntries() {
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON);
+        assertTrue(JournalEntry.changesBetween(persons, noTags, new ArrayList<>(persons), noTags).isEmpty());
+    }
+
+    @Test
+    public void changesBetween_singleChange_singleEntry() throws Exception {
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON, CARL);
+
+        // added in the middle
+        assertSingleChangeApplied(persons, Arrays.asList(ALICE, DANIEL, BENSON, CARL));
+
+        // deleted at the end
+        assertSingleChangeApplied(persons, Arrays.asList(ALICE, BENSON));
+
+        // edited
+        assertSingleChangeApplied(persons,
+                Arrays.asList(ALICE, new PersonBuilder(BENSON).withTags("colleague").build(), CARL));
+
+        // sorted
+        assertSingleChangeApplied(persons, Arrays.asList(CARL, ALICE, BENSON));
+
+        // cleared
+        assertSingleChangeApplied(persons, Collections.emptyList());
+    }
+
+    @Test
+    public void changesBetween_sortedCopies_singleSortEntry() throws Exception {
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON, CARL);
+        List<ReadOnlyPerson> sortedCopies = Arrays.asList(new Person(CARL), new Person(ALICE), new Person(BENSON));
+
+        List<JournalEntry> changes = JournalEntry.changesBetween(persons, noTags, sortedCopies, noTags);
+        assertEquals(1, changes.size());
+        assertEquals(JournalEntry.Type.SORT, changes.get(0).getType());
+        assertChangesApplied(persons, sortedCopies, changes);
+    }
+
+    @Test
+    public void changesBetween_changesAtBothEnds_personsBetweenNotRecorded() throws Exception {
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+        ReadOnlyPerson editedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        List<ReadOnlyPerson> newPersons = Arrays.asList(editedAlice, BENSON, CARL);
+
+        List<JournalEntry> changes = JournalEntry.changesBetween(persons, noTags, newPersons, noTags);
+        assertEquals(2, changes.size());
+        assertEquals(JournalEntry.Type.EDIT, changes.get(0).getType());
+        assertEquals(JournalEntry.Type.DELETE, changes.get(1).getType());
+        assertChangesApplied(persons, newPersons, changes);
+    }
+
+    @Test
+    public void changesBetween_tagsChanged_tagsEntry() throws Exception {
+        List<Tag> newTags = Collections.singletonList(new Tag("friends"));
+        List<JournalEntry> changes = JournalEntry.changesBetween(Collections.emptyList(), noTags,
+                Collections.emptyList(), newTags);
+        assertEquals(1, changes.size());
+
+        List<Tag> tags = new ArrayList<>();
+        changes.get(0).applyTo(new ArrayList<>(), tags);
+        assertEquals(newTags, tags);
+    }
+
+    /**
+     * Asserts that exactly one entry is needed to change {@code oldPersons} into {@code newPersons},
+     * and that applying it to {@code oldPersons} gives {@code newPersons}.
+     */
+    private void assertSingleChangeApplied(List<ReadOnlyPerson> oldPersons, List<ReadOnlyPerson> newPersons)
+            throws Exception {
+        List<JournalEntry> changes = JournalEntry.changesBetween(oldPersons, noTags, newPersons, noTags);
+        assertEquals(1, changes.size());
+        assertChangesApplied(oldPersons, newPersons, changes);
+    }
+
+    /**
+     * Asserts that applying {@code changes} to {@code oldPersons} in order gives {@code newPersons}, tags included.
+     */
+    private void assertChangesApplied(List<ReadOnlyPerson> oldPersons, List<ReadOnlyPerson> newPersons,
+                                      List<JournalEntry> changes) throws Exception {
+        List<ReadOnlyPerson> persons = new ArrayList<>(oldPersons);
+        for (JournalEntry change : changes) {
+            change.applyTo(persons, new ArrayList<>());
+        }
+        assertEquals(newPersons, persons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(newPersons.get(i).getTags(), persons.get(i).getTags());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileInputStreamTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new MappedFileInputStream(null);
+    }
+
+    @Test
+    public void read_wholeFile_sameBytes() throws Exception {
+        byte[] contents = new byte[1000];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) i;
+        }
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), contents);
+
+        try (InputStream in = new MappedFileInputStream(file)) {
+            assertEquals(contents.length, in.available());
+            assertEquals(0, in.read());
+            assertEquals(1, in.read());
+            assertEquals(8, in.skip(8));
+            assertEquals(10, in.read());
+
+            byte[] rest = new byte[2000];
+            assertEquals(contents.length - 11, in.read(rest, 0, rest.length));
+            assertEquals(contents[11], rest[0]);
+            assertEquals(contents[contents.length - 1], rest[contents.length - 12]);
+
+            assertEquals(0, in.available());
+            assertEquals(0, in.skip(1));
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(rest, 0, rest.length));
+            assertEquals(0, in.read(rest, 0, 0));
+        }
+    }
+
+    @Test
+    public void read_emptyFile_endOfStream() throws Exception {
+        try (InputStream in = new MappedFileInputStream(testFolder.newFile())) {
+            assertEquals(-1, in.read());
+            assertEquals(0, in.available());
+        }
+    }
+
+    @Test
+    public void read_invalidRange_throwsIndexOutOfBoundsException() throws Exception {
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), new byte[] {1, 2, 3});
+        try (InputStream in = new MappedFileInputStream(file)) {
+            thrown.expect(IndexOutOfBoundsException.class);
+            in.read(new byte[2], 1, 2);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonExporterTest {
+
+    private static final ReadOnlyPerson PERSON_WITH_LONG_ADDRESS = new PersonBuilder(AMY)
+            .withAddress("Block 312; \"Amy\" Street 1, " + String.join(" ", Collections.nCopies(20, "Amy Towers")))
+            .build();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final PersonExporter exporter = new PersonExporter();
+
+    @Test
+    public void exportPersons_csv_importedBack() throws Exception {
+        assertImportedBack(PersonFileFormat.CSV);
+    }
+
+    @Test
+    public void exportPersons_vCard_importedBack() throws Exception {
+        assertImportedBack(PersonFileFormat.VCARD);
+    }
+
+    @Test
+    public void exportPersons_vCard_linesFolded() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("contacts.vcf");
+        exporter.exportPersons(Collections.singletonList(PERSON_WITH_LONG_ADDRESS), file, PersonFileFormat.VCARD,
+            writtenCount -> { });
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            assertTrue(line.length() <= VCardPersonRecordWriter.MAX_LINE_LENGTH);
+        }
+    }
+
+    @Test
+    public void exportPersons_json_arrayOfPersons() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("contacts.json");
+        exporter.exportPersons(Arrays.asList(AMY, BOB), file, PersonFileFormat.JSON, writtenCount -> { });
+        assertEquals("[{\"name\":\"Amy Bee\",\"phone\":\"11111111\",\"email\":\"amy@example.com\","
+                + "\"address\":\"Block 312, Amy Street 1\",\"tags\":[\"friend\"]},"
+                + "{\"name\":\"Bob Choo\",\"phone\":\"22222222\",\"email\":\"bob@example.com\","
+                + "\"address\":\"Block 123, Bobby Street 3\",\"tags\":[\"friend\",\"husband\"]}]\n",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportPersons_manyPersons_progressReported() throws Exception {
+        List<ReadOnlyPerson> persons = Collections.nCopies(PersonExporter.PROGRESS_INTERVAL * 2 + 1, AMY);
+        List<Integer> progress = new ArrayList<>();
+        exporter.exportPersons(persons, testFolder.getRoot().toPath().resolve("contacts.csv"), PersonFileFormat.CSV,
+                progress::add);
+        assertEquals(Arrays.asList(PersonExporter.PROGRESS_INTERVAL, PersonExporter.PROGRESS_INTERVAL * 2), progress);
+    }
+
+    @Test
+    public void exportPersons_interrupted_fileUnchanged() throws Exception {
+        File file = testFolder.newFile("contacts.csv");
+        Files.write(file.toPath(), Collections.singletonList("existing"), StandardCharsets.UTF_8);
+        List<ReadOnlyPerson> persons = Collections.nCopies(PersonExporter.PROGRESS_INTERVAL, AMY);
+
+        Thread.currentThread().interrupt();
+        try {
+            exporter.exportPersons(persons, file.toPath(), PersonFileFormat.CSV, writtenCount -> { });
+            fail("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(Collections.singletonList("existing"), Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+        // the temporary file is removed
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
+    /**
+     * Asserts that the typical persons exported in {@code format} are imported back with the same details and tags.
+     */
+    private void assertImportedBack(PersonFileFormat format) throws Exception {
+        List<ReadOnlyPerson> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(PERSON_WITH_LONG_ADDRESS);
+        Path file = testFolder.getRoot().toPath().resolve("contacts." + format.getExtensions().get(0));
+        exporter.exportPersons(persons, file, format, writtenCount -> { });
+
+        PersonImporter.Result result = new PersonImporter().importPersons(file, format);
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(persons, result.getPersons());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).getTags(), result.getPersons().get(i).getTags());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonImporterTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,tags";
+    private static final String CSV_AMY = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",friend";
+    private static final String CSV_BOB = "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\","
+            + "husband;friend";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void fromFileName() {
+        assertEquals(Optional.of(PersonFileFormat.CSV), PersonFileFormat.fromFileName("contacts.CSV"));
+        assertEquals(Optional.of(PersonFileFormat.VCARD), PersonFileFormat.fromFileName("dir.v1/contacts.vcf"));
+        assertEquals(Optional.of(PersonFileFormat.VCARD), PersonFileFormat.fromFileName("contacts.vcard"));
+        assertEquals(Optional.empty(), PersonFileFormat.fromFileName("contacts.xml"));
+        assertEquals(Optional.empty(), PersonFileFormat.fromFileName("contacts"));
+    }
+
+    @Test
+    public void importPersons_csvFile_personsInOrder() throws Exception {
+        Path file = testFolder.newFile("contacts.csv").toPath();
+        Files.write(file, Arrays.asList(CSV_HEADER, CSV_AMY, "", CSV_BOB), StandardCharsets.UTF_8);
+
+        PersonImporter.Result result = new PersonImporter().importPersons(file, PersonFileFormat.CSV);
+        assertEquals(Arrays.asList(AMY, BOB), result.getPersons());
+        assertEquals(AMY.getTags(), result.getPersons().get(0).getTags());
+        assertEquals(BOB.getTags(), result.getPersons().get(1).getTags());
+        assertEquals(Arrays.asList(2, 4), result.getLineNumbers());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void importPersons_csvHeaderInAnyOrder_fieldsReadByColumn() throws Exception {
+        PersonImporter.Result result = importCsv("Email,Notes,Name,Address,Phone",
+                "amy@example.com,met at work,Amy Bee,\"Block 312, Amy Street 1\",11111111");
+        ReadOnlyPerson amyWithoutTags = new PersonBuilder(AMY).withTags().build();
+        assertEquals(Collections.singletonList(amyWithoutTags), result.getPersons());
+        assertEquals(Collections.emptySet(), result.getPersons().get(0).getTags());
+    }
+
+    @Test
+    public void importPersons_csvQuotedFields_unquoted() throws Exception {
+        PersonImporter.Result result = importCsv(
+                "\"Amy Bee\",11111111,amy@example.com,\"Block 312, \"\"Amy\"\" Street", "1\",");
+        assertEquals(1, result.getPersons().size());
+        assertEquals("Block 312, \"Amy\" Street 1", result.getPersons().get(0).getAddress().value);
+        assertEquals(Collections.singletonList(1), result.getLineNumbers());
+    }
+
+    @Test
+    public void importPersons_invalidCsvRecords_errorsByLine() throws Exception {
+        PersonImporter.Result result = importCsv(CSV_HEADER,
+                CSV_AMY,
+                "Bob Choo,911a,bob@example.com,Bobby Street",
+                "Carl,12345678",
+                "Dan,12345678,dan@example.com,Block 1, Dan Street,friends",
+                "Eve,12345678,eve@example.com,Eve Street,hubby*",
+                "\"Fay,12345678");
+
+        assertEquals(Collections.singletonList(AMY), result.getPersons());
+        Map<Integer, String> expectedErrors = new HashMap<>();
+        expectedErrors.put(3, Phone.MESSAGE_PHONE_CONSTRAINTS);
+        expectedErrors.put(4, String.format(PersonRecord.MESSAGE_MISSING_FIELD, "email"));
+        expectedErrors.put(5, String.format(CsvPersonRecordReader.MESSAGE_TOO_MANY_FIELDS, 5, 6));
+        expectedErrors.put(6, Tag.MESSAGE_TAG_CONSTRAINTS);
+        expectedErrors.put(7, CsvPersonRecordReader.MESSAGE_UNTERMINATED_QUOTE);
+        assertEquals(expectedErrors, result.getErrors());
+    }
+
+    @Test
+    public void importPersons_vCards_personsInOrder() throws Exception {
+        PersonImporter.Result result = importVCards(
+                "BEGIN:VCARD",
+                "VERSION:3.0",
+                "FN:Amy Bee",
+                "TEL;TYPE=cell:1111-1111",
+                "item1.EMAIL;TYPE=INTERNET:amy@",
+                " example.com",
+                "ADR;TYPE=home:;;Block 312\\, Amy Street 1;;;;",
+                "CATEGORIES:friend",
+                "END:VCARD",
+                "",
+                "begin:vcard",
+                "N:Choo;Bob;;;",
+                "TEL;VALUE=uri:tel:2222-2222",
+                "EMAIL:bob@example.com",
+                "ADR:;;Block 123\\, Bobby Street 3",
+                "CATEGORIES:husband,friend",
+                "end:vcard");
+
+        assertEquals(Arrays.asList(AMY, BOB), result.getPersons());
+        assertEquals(AMY.getTags(), result.getPersons().get(0).getTags());
+        assertEquals(BOB.getTags(), result.getPersons().get(1).getTags());
+        assertEquals(Arrays.asList(1, 11), result.getLineNumbers());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void importPersons_invalidVCards_errorsByLine() throws Exception {
+        PersonImporter.Result result = importVCards(
+                "BEGIN:VCARD",
+                "FN:Amy Bee",
+                "TEL:11111111",
+                "EMAIL:amy",
+                "ADR:;;Amy Street",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "FN:Bob Choo",
+                "TEL:+65 2222 2222",
+                "EMAIL:bob@example.com",
+                "ADR:;;Bobby Street",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "FN:Carl Kurz");
+
+        assertTrue(result.getPersons().isEmpty());
+        Map<Integer, String> expectedErrors = new HashMap<>();
+        expectedErrors.put(1, Email.MESSAGE_EMAIL_CONSTRAINTS);
+        // the plus sign of an international number is kept, and is not allowed in phones
+        expectedErrors.put(7, Phone.MESSAGE_PHONE_CONSTRAINTS);
+        expectedErrors.put(13, VCardPersonRecordReader.MESSAGE_UNTERMINATED_CARD);
+        assertEquals(expectedErrors, result.getErrors());
+    }
+
+    @Test
+    public void importPersons_manyChunks_personsInOrder() throws Exception {
+        int recordCount = PersonImporter.CHUNK_SIZE * 5 + 3;
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < recordCount; i++) {
+            // every seventh record has an invalid phone number
+            csv.append("Person ").append(i).append(',').append(i % 7 == 0 ? "x" : "")
+                    .append(100000 + i).append(",p").append(i).append("@example.com,Street ").append(i).append('\n');
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PersonImporter importer = new PersonImporter(executor, 2);
+            PersonImporter.Result result = importer.importPersons(csvReader(csv.toString()));
+
+            List<ReadOnlyPerson> persons = result.getPersons();
+            assertEquals(recordCount - (recordCount + 6) / 7, persons.size());
+            assertEquals(recordCount - persons.size(), result.getErrors().size());
+            for (int i = 0; i < persons.size(); i++) {
+                int lineNumber = result.getLineNumbers().get(i);
+                assertTrue((lineNumber - 1) % 7 != 0);
+                assertEquals("Person " + (lineNumber - 1), persons.get(i).getName().fullName);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void importPersons_interrupted_throwsCancellationException() throws Exception {
+        Thread.currentThread().interrupt();
+        try {
+            new PersonImporter().importPersons(csvReader(CSV_AMY));
+            fail("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    private PersonImporter.Result importCsv(String... lines) throws IOException {
+        return new PersonImporter().importPersons(csvReader(String.join("\n", lines)));
+    }
+
+    private PersonImporter.Result importVCards(String... lines) throws IOException {
+        return new PersonImporter().importPersons(PersonRecordReader.open(
+                new BufferedReader(new StringReader(String.join("\r\n", lines))), PersonFileFormat.VCARD));
+    }
+
+    private static PersonRecordReader csvReader(String csv) {
+        return PersonRecordReader.open(new BufferedReader(new StringReader(csv)), PersonFileFormat.CSV);
+    }
+}
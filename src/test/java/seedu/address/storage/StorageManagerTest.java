@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
@@ -78,9 +80,24 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub("dummy"),
                                              new JsonUserPrefsStorage("dummy"));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushPendingSaves();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_multipleChanges_latestSaved() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(ALICE);
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(BENSON);
+
+        // changes made after the last event are not saved
+        storageManager.flushPendingSaves();
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -87,6 +87,22 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_memoryMapped_sameAsStreamed() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "MappedAddressBook.xml";
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void read_notXmlFormatMemoryMapped_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlAddressBookStorage(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml", true).readAddressBook();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
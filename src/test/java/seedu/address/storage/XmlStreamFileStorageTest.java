@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+public class XmlStreamFileStorageTest {
+    private static final File VALID_FILE = new File(FileUtil.getPath("src/test/data/XmlUtilTest/validAddressBook.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadDataFromSaveFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(new File(testFolder.getRoot(), "missing.xml"));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_fileWrittenByJaxb_sameAsJaxb() throws Exception {
+        XmlSerializableAddressBook expected = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class);
+        ReadOnlyAddressBook actual = XmlStreamFileStorage.loadDataFromSaveFile(VALID_FILE);
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+    }
+
+    @Test
+    public void saveDataToFile_readByJaxb_sameAsOriginal() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        XmlStreamFileStorage.saveDataToFile(file, original);
+
+        XmlSerializableAddressBook readBack = XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original, new AddressBook(XmlStreamFileStorage.loadDataFromSaveFile(file)));
+    }
+
+    @Test
+    public void loadDataFromStream_sameTagOnManyPersons_tagShared() throws Exception {
+        ReadOnlyAddressBook addressBook = loadFromString("<addressbook>"
+                + personXml("Alice", "friends") + personXml("Bob", "friends") + "<tags>friends</tags>"
+                + "</addressbook>");
+
+        Tag aliceTag = addressBook.getPersonList().get(0).getTags().iterator().next();
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            assertSame(aliceTag, person.getTags().iterator().next());
+        }
+        assertSame(aliceTag, addressBook.getTagList().get(0));
+    }
+
+    @Test
+    public void loadDataFromStream_unknownElements_ignored() throws Exception {
+        ReadOnlyAddressBook addressBook = loadFromString("<addressbook><notes><note>a</note></notes>"
+                + personXml("Alice", "friends") + "</addressbook>");
+        assertEquals(1, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void loadDataFromStream_invalidPhone_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        loadFromString("<addressbook><persons><name>Alice</name><phone>abc</phone>"
+                + "<email>a@example.com</email><address>street</address></persons></addressbook>");
+    }
+
+    @Test
+    public void loadDataFromStream_missingDetails_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        loadFromString("<addressbook><persons><name>Alice</name></persons></addressbook>");
+    }
+
+    private ReadOnlyAddressBook loadFromString(String xml) throws DataConversionException {
+        return XmlStreamFileStorage.loadDataFromStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String personXml(String name, String tag) {
+        return "<persons><name>" + name + "</name><phone>9482424</phone><email>a@example.com</email>"
+                + "<address>street</address><tagged>" + tag + "</tagged></persons>";
+    }
+}
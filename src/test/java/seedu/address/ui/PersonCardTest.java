@@ -40,6 +40,34 @@ public class PersonCardTest extends GuiUnitTest {
         assertCardDisplay(personCard, personWithTags, 2);
     }
 
+    @Test
+    public void setPerson_reusedCard_displaysNewPersonOnly() {
+        Person firstPerson = new PersonBuilder().build();
+        Person secondPerson = new PersonBuilder().withName("Second Person").withTags("colleagues").build();
+        PersonCard personCard = new PersonCard(firstPerson, 1);
+        uiPartRule.setUiPart(personCard);
+
+        guiRobot.interact(() -> personCard.setPerson(secondPerson, 2));
+        assertCardDisplay(personCard, secondPerson, 2);
+
+        // changes made to the person displayed before do not reflect on the card
+        guiRobot.interact(() -> {
+            firstPerson.setName(ALICE.getName());
+            firstPerson.setTags(ALICE.getTags());
+        });
+        assertCardDisplay(personCard, secondPerson, 2);
+    }
+
+    @Test
+    public void setPerson_samePersonNewIndex_displaysNewIndex() {
+        Person person = new PersonBuilder().build();
+        PersonCard personCard = new PersonCard(person, 2);
+        uiPartRule.setUiPart(personCard);
+
+        guiRobot.interact(() -> personCard.setPerson(person, 1));
+        assertCardDisplay(personCard, person, 1);
+    }
+
     @Test
     public void equals() {
         Person person = new PersonBuilder().build();
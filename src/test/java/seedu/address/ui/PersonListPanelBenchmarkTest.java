@@ -0,0 +1,166 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+import guitests.guihandles.PersonCardHandle;
+import guitests.guihandles.PersonListPanelHandle;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long person cards take to be created, and how long the person list panel takes to be shown, scrolled
+ * through and rebuilt after the list is filtered, sorted or changed, with many persons. The times are logged rather
+ * than asserted, as they depend on the machine running the tests; the tests only check that the panel still shows the
+ * right persons. These tests are slow, so they are only run by the {@code benchmarkTests} Gradle task.
+ */
+public class PersonListPanelBenchmarkTest extends GuiUnitTest {
+
+    private static final int CARD_COUNT = 500;
+    private static final int PERSON_COUNT = 20000;
+    private static final int REBUILD_PERSON_COUNT = 50000;
+    // about a page of rows at the default window size
+    private static final int SCROLL_STEP = 10;
+    // the layout of the person card before it was built in code
+    private static final String FXML_CARD_FILE = "PersonListPanelBenchmarkTest/PersonListCard.fxml";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonListPanelBenchmarkTest.class);
+
+    @Test
+    public void createCards() {
+        ReadOnlyPerson person = new PersonBuilder().build();
+        // the first run of each loads the classes involved
+        timeOnFxThread(() -> createCardsFromFxml(CARD_COUNT));
+        timeOnFxThread(() -> createCardsInCode(person, CARD_COUNT));
+
+        long fxmlNanos = timeOnFxThread(() -> createCardsFromFxml(CARD_COUNT));
+        long codeNanos = timeOnFxThread(() -> createCardsInCode(person, CARD_COUNT));
+        logger.info(String.format("Created %d person cards: %d ms from FXML, %d ms in code",
+                CARD_COUNT, fxmlNanos / 1000000, codeNanos / 1000000));
+    }
+
+    @Test
+    public void showAndScroll() {
+        ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        long startupStart = System.nanoTime();
+        PersonListPanel personListPanel = new PersonListPanel(persons);
+        uiPartRule.setUiPart(personListPanel);
+        ListView<ReadOnlyPerson> listView = getChildNode(personListPanel.getRoot(),
+                PersonListPanelHandle.PERSON_LIST_VIEW_ID);
+        guiRobot.interact(listView::layout);
+        long startupNanos = System.nanoTime() - startupStart;
+
+        long scrollNanos = timeOnFxThread(() -> {
+            for (int i = 0; i < PERSON_COUNT; i += SCROLL_STEP) {
+                listView.scrollTo(i);
+                listView.layout();
+            }
+        });
+        logger.info(String.format("Person list panel with %d persons: shown in %d ms, scrolled through in %d ms",
+                PERSON_COUNT, startupNanos / 1000000, scrollNanos / 1000000));
+
+        PersonListPanelHandle personListPanelHandle = new PersonListPanelHandle(listView);
+        personListPanelHandle.navigateToCard(persons.get(PERSON_COUNT - 1));
+        assertEquals(PERSON_COUNT + ". ", personListPanelHandle.getPersonCardHandle(PERSON_COUNT - 1).getId());
+    }
+
+    @Test
+    public void rebuildList() {
+        AddressBook addressBook = new AddressBook();
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        // added in reverse order of name, so that sorting reverses the list
+        for (int i = REBUILD_PERSON_COUNT - 1; i >= 0; i--) {
+            persons.add(new PersonBuilder().withName(String.format("Person %05d", i)).build());
+        }
+        addressBook.addPersons(persons);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        PersonListPanel personListPanel = new PersonListPanel(model.getFilteredPersonList());
+        uiPartRule.setUiPart(personListPanel);
+        ListView<ReadOnlyPerson> listView = getChildNode(personListPanel.getRoot(),
+                PersonListPanelHandle.PERSON_LIST_VIEW_ID);
+        guiRobot.interact(() -> listView.scrollTo(REBUILD_PERSON_COUNT / 2));
+
+        long filterNanos = timeOnFxThread(() -> {
+            model.updateFilteredPersonList(person -> person.getName().fullName.endsWith("0"));
+            listView.layout();
+        });
+        long sortNanos = timeOnFxThread(() -> {
+            model.sort();
+            listView.layout();
+        });
+        long deleteNanos = timeOnFxThread(() -> {
+            try {
+                model.deletePerson(model.getFilteredPersonList().get(0));
+            } catch (PersonNotFoundException pnfe) {
+                throw new AssertionError("The person is in the list", pnfe);
+            }
+            listView.layout();
+        });
+        logger.info(String.format("Person list panel with %d persons rebuilt in %d ms after filtering, "
+                + "%d ms after sorting and %d ms after deleting the first person", REBUILD_PERSON_COUNT,
+                filterNanos / 1000000, sortNanos / 1000000, deleteNanos / 1000000));
+
+        // the numbers shown still follow the positions of the persons after every change
+        PersonListPanelHandle personListPanelHandle = new PersonListPanelHandle(listView);
+        ObservableList<ReadOnlyPerson> shownPersons = model.getFilteredPersonList();
+        for (int index : new int[] {0, shownPersons.size() / 2, shownPersons.size() - 1}) {
+            personListPanelHandle.navigateToCard(index);
+            PersonCardHandle card = personListPanelHandle.getPersonCardHandle(index);
+            assertEquals(shownPersons.get(index).getName().fullName, card.getName());
+            assertEquals((index + 1) + ". ", card.getId());
+        }
+    }
+
+    /**
+     * Runs {@code runnable} on the JavaFX application thread and returns the number of nanoseconds it took.
+     */
+    private long timeOnFxThread(Runnable runnable) {
+        long[] nanos = new long[1];
+        guiRobot.interact(() -> {
+            long start = System.nanoTime();
+            runnable.run();
+            nanos[0] = System.nanoTime() - start;
+        });
+        return nanos[0];
+    }
+
+    private static void createCardsFromFxml(int count) {
+        for (int i = 0; i < count; i++) {
+            new FxmlPersonCard();
+        }
+    }
+
+    private static void createCardsInCode(ReadOnlyPerson person, int count) {
+        for (int i = 0; i < count; i++) {
+            new PersonCard(person, i + 1);
+        }
+    }
+
+    /**
+     * A person card loaded from FXML, as person cards were before they were built in code.
+     */
+    private static class FxmlPersonCard extends UiPart<Region> {
+        FxmlPersonCard() {
+            super(FXML_CARD_FILE);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
@@ -16,11 +17,17 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
 
 public class PersonListPanelTest extends GuiUnitTest {
     private static final ObservableList<ReadOnlyPerson> TYPICAL_PERSONS =
             FXCollections.observableList(getTypicalPersons());
 
+    private static final int MANY_PERSONS_COUNT = 10000;
+    // far more rows than fit in any window, while far fewer than the persons in the list
+    private static final int MAX_VISIBLE_CARDS = 100;
+    private static final String CARD_PANE_ID = "#cardPane";
+
     private static final JumpToListRequestEvent JUMP_TO_SECOND_EVENT = new JumpToListRequestEvent(INDEX_SECOND_PERSON);
 
     private PersonListPanelHandle personListPanelHandle;
@@ -46,6 +53,60 @@ public class PersonListPanelTest extends GuiUnitTest {
         }
     }
 
+    @Test
+    public void display_manyPersons_cardsOnlyForVisibleRows() {
+        ObservableList<ReadOnlyPerson> manyPersons = FXCollections.observableArrayList();
+        for (int i = 0; i < MANY_PERSONS_COUNT; i++) {
+            manyPersons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        PersonListPanel personListPanel = setUpPanel(manyPersons);
+
+        ReadOnlyPerson lastPerson = manyPersons.get(MANY_PERSONS_COUNT - 1);
+        personListPanelHandle.navigateToCard(lastPerson);
+        PersonCardHandle lastCard = personListPanelHandle.getPersonCardHandle(MANY_PERSONS_COUNT - 1);
+        assertCardDisplaysPerson(lastPerson, lastCard);
+        assertEquals(MANY_PERSONS_COUNT + ". ", lastCard.getId());
+
+        long cardCount = personListPanel.getRoot().lookupAll(CARD_PANE_ID).size();
+        assertTrue(cardCount < MAX_VISIBLE_CARDS);
+    }
+
+    @Test
+    public void display_personDeleted_cardsRenumbered() {
+        ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList(getTypicalPersons());
+        setUpPanel(persons);
+
+        guiRobot.interact(() -> persons.remove(0));
+        assertCardsNumberedByPosition(persons);
+    }
+
+    @Test
+    public void display_personDeletedOnOtherThread_cardsRenumberedAndSelectionKept() throws Exception {
+        ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList(getTypicalPersons());
+        setUpPanel(persons);
+        ReadOnlyPerson selectedPerson = persons.get(INDEX_SECOND_PERSON.getZeroBased());
+        personListPanelHandle.navigateToCard(selectedPerson);
+
+        Thread commandThread = new Thread(() -> persons.remove(0));
+        commandThread.start();
+        commandThread.join();
+        // waits for the change to be applied on the JavaFX application thread
+        guiRobot.interact(() -> { });
+
+        assertTrue(personListPanelHandle.isAnyCardSelected());
+        assertEquals(persons.indexOf(selectedPerson), personListPanelHandle.getSelectedCardIndex());
+        assertCardsNumberedByPosition(persons);
+    }
+
+    @Test
+    public void display_equalPersons_cardsNumberedByPosition() {
+        ObservableList<ReadOnlyPerson> persons = FXCollections.observableArrayList(
+                new PersonBuilder().build(), new PersonBuilder().build());
+        setUpPanel(persons);
+
+        assertCardsNumberedByPosition(persons);
+    }
+
     @Test
     public void handleJumpToListRequestEvent() {
         postNow(JUMP_TO_SECOND_EVENT);
@@ -55,4 +116,29 @@ public class PersonListPanelTest extends GuiUnitTest {
         PersonCardHandle selectedCard = personListPanelHandle.getHandleToSelectedCard();
         assertCardEquals(expectedCard, selectedCard);
     }
+
+    /**
+     * Shows {@code persons} in a new {@code PersonListPanel}, which is returned.
+     */
+    private PersonListPanel setUpPanel(ObservableList<ReadOnlyPerson> persons) {
+        PersonListPanel personListPanel = new PersonListPanel(persons);
+        uiPartRule.setUiPart(personListPanel);
+        personListPanelHandle = new PersonListPanelHandle(getChildNode(personListPanel.getRoot(),
+                PersonListPanelHandle.PERSON_LIST_VIEW_ID));
+        return personListPanel;
+    }
+
+    /**
+     * Asserts that the card of every person in {@code persons} displays the person and is numbered by the position of
+     * the person in the list.
+     */
+    private void assertCardsNumberedByPosition(ObservableList<ReadOnlyPerson> persons) {
+        for (int i = 0; i < persons.size(); i++) {
+            personListPanelHandle.navigateToCard(i);
+            PersonCardHandle actualCard = personListPanelHandle.getPersonCardHandle(i);
+
+            assertCardDisplaysPerson(persons.get(i), actualCard);
+            assertEquals(Integer.toString(i + 1) + ". ", actualCard.getId());
+        }
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
+import static seedu.address.ui.StatusBarFooter.UNDO_HISTORY_STATUS;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -16,6 +17,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
+import seedu.address.commons.events.logic.UndoHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.AddressBook;
 
@@ -63,6 +65,17 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_undoHistoryChanged() {
+        // initial state
+        assertEquals(String.format(UNDO_HISTORY_STATUS, 0, "0 B"), statusBarFooterHandle.getUndoHistoryStatus());
+
+        // after a command is pushed onto the undo history
+        postNow(new UndoHistoryChangedEvent(3, 1536));
+        assertEquals(String.format(UNDO_HISTORY_STATUS, 3, StatusBarFooter.formatBytes(1536)),
+                statusBarFooterHandle.getUndoHistoryStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
@@ -0,0 +1,28 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TagStylesTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getStyleClass_nullTagName_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        TagStyles.getStyleClass(null);
+    }
+
+    @Test
+    public void getStyleClass_validTagName_sameInEverySession() {
+        assertEquals("tag_grey", TagStyles.getStyleClass("friends"));
+        assertEquals("tag_red", TagStyles.getStyleClass("colleagues"));
+        assertEquals("tag_brown", TagStyles.getStyleClass("owesMoney"));
+
+        // same name -> same style class
+        assertEquals(TagStyles.getStyleClass("friends"), TagStyles.getStyleClass(new String("friends")));
+    }
+}
@@ -70,6 +70,18 @@ public class UiPartTest {
         new TestUiPart<Object>(INVALID_FILE_PATH);
     }
 
+    @Test
+    public void constructor_rootBuiltInCode_returnsRoot() {
+        TestFxmlObject root = new TestFxmlObject("built in code");
+        assertEquals(root, new CodeBuiltUiPart<>(root).getRoot());
+    }
+
+    @Test
+    public void constructor_nullRootBuiltInCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CodeBuiltUiPart<Object>(null);
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -98,4 +110,15 @@ public class UiPartTest {
 
     }
 
+    /**
+     * UiPart used for testing, whose scene graph is built in code.
+     */
+    private static class CodeBuiltUiPart<T> extends UiPart<T> {
+
+        CodeBuiltUiPart(T root) {
+            setRoot(root);
+        }
+
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.ui.testutil;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -9,6 +10,7 @@ import guitests.guihandles.PersonCardHandle;
 import guitests.guihandles.PersonListPanelHandle;
 import guitests.guihandles.ResultDisplayHandle;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.ui.TagStyles;
 
 /**
  * A set of assertion methods useful for writing GUI tests.
@@ -36,6 +38,10 @@ public class GuiTestAssert {
         assertEquals(expectedPerson.getAddress().value, actualCard.getAddress());
         assertEquals(expectedPerson.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()),
                 actualCard.getTags());
+        assertEquals(expectedPerson.getTags().stream()
+                        .map(tag -> Collections.singletonList(TagStyles.getStyleClass(tag.tagName)))
+                        .collect(Collectors.toList()),
+                actualCard.getTagStyleClasses());
     }
 
     /**